@@ -0,0 +1,123 @@
+package com.example.edvantistask.benchmark;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.dto.EmergencyCallDistanceDTO;
+import com.example.edvantistask.model.GeoPoint;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import com.example.edvantistask.service.EmergencyCallService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Radius, nearest-neighbour and bounding-box queries over calls spread uniformly across a 50 x 50 km city, each
+ * from a random point, compared with scanning every call and measuring the distance to each one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmergencyCallGeoBenchmark {
+
+    private static final double CENTER_LATITUDE = 50.45;
+    private static final double CENTER_LONGITUDE = 30.52;
+    private static final double HALF_SPAN_DEGREES = 0.225;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private EmergencyCallService service;
+    private EmergencyCallRepository repository;
+    private TransactionTemplate readOnlyTransaction;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        service = context.getBean(EmergencyCallService.class);
+        repository = context.getBean(EmergencyCallRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM emergency_calls");
+        IncidentType[] incidentTypes = IncidentType.values();
+        SplittableRandom seed = new SplittableRandom(7);
+        for (int from = 0; from < rows; from += INSERT_BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (int i = from; i < Math.min(rows, from + INSERT_BATCH_SIZE); i++) {
+                double latitude = CENTER_LATITUDE + seed.nextDouble(-HALF_SPAN_DEGREES, HALF_SPAN_DEGREES);
+                double longitude = CENTER_LONGITUDE + seed.nextDouble(-HALF_SPAN_DEGREES, HALF_SPAN_DEGREES);
+                batch.add(new Object[]{
+                        i + 1L, "Caller " + i, String.format(Locale.ROOT, "%.6f, %.6f", latitude, longitude),
+                        incidentTypes[i % incidentTypes.length].name(), (i % 4 == 0 ? Status.CLOSED : Status.OPEN).name(),
+                        latitude, longitude});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO emergency_calls "
+                    + "(id, caller_name, position, incident_type, status, version, latitude, longitude) "
+                    + "VALUES (?, ?, ?, ?, ?, 0, ?, ?)", batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmergencyCallDistanceDTO> withinTwoKilometres() {
+        return service.findEmergencyCallsWithinRadius(randomLatitude(), randomLongitude(), 2_000, null, Status.OPEN, 100);
+    }
+
+    @Benchmark
+    public List<EmergencyCallDistanceDTO> nearestTen() {
+        return service.findNearestEmergencyCalls(randomLatitude(), randomLongitude(), 10, IncidentType.FIRE, Status.OPEN);
+    }
+
+    @Benchmark
+    public List<EmergencyCallDTO> withinBox() {
+        double latitude = randomLatitude();
+        double longitude = randomLongitude();
+        return service.findEmergencyCallsWithinBox(latitude, longitude, latitude + 0.01, longitude + 0.01, null, null, 100);
+    }
+
+    @Benchmark
+    public List<EmergencyCallDistanceDTO> nearestTenByFullScan() {
+        GeoPoint origin = new GeoPoint(randomLatitude(), randomLongitude());
+        return readOnlyTransaction.execute(status -> {
+            try (Stream<EmergencyCallDTO> calls = repository.streamAllDtos(IncidentType.FIRE)) {
+                return calls
+                        .filter(call -> call.status() == Status.OPEN)
+                        .flatMap(call -> GeoPoint.parse(call.position()).stream()
+                                .map(point -> new EmergencyCallDistanceDTO(call, origin.distanceMeters(point.latitude(), point.longitude()))))
+                        .sorted(Comparator.comparingDouble(EmergencyCallDistanceDTO::distanceMeters))
+                        .limit(10)
+                        .toList();
+            }
+        });
+    }
+
+    private double randomLatitude() {
+        return CENTER_LATITUDE + random.nextDouble(-HALF_SPAN_DEGREES, HALF_SPAN_DEGREES);
+    }
+
+    private double randomLongitude() {
+        return CENTER_LONGITUDE + random.nextDouble(-HALF_SPAN_DEGREES, HALF_SPAN_DEGREES);
+    }
+}
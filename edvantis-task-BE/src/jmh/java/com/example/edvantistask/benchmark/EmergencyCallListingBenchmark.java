@@ -0,0 +1,86 @@
+package com.example.edvantistask.benchmark;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.EmergencyCall;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a listing page as managed entities mapped with {@link EmergencyCallDTO#fromEntity} against
+ * selecting straight into the DTO. Run with {@code -prof gc} to see the allocation rate per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmergencyCallListingBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EmergencyCallRepository repository;
+    private TransactionTemplate readOnlyTransaction;
+    private int pageCount;
+    private int nextPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        repository = context.getBean(EmergencyCallRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        repository.deleteAllInBatch();
+        List<EmergencyCall> calls = new ArrayList<>(ROWS);
+        IncidentType[] incidentTypes = IncidentType.values();
+        for (int i = 0; i < ROWS; i++) {
+            calls.add(EmergencyCall.builder()
+                    .callerName("Caller " + i)
+                    .position("Street " + i)
+                    .incidentType(incidentTypes[i % incidentTypes.length])
+                    .status(Status.OPEN)
+                    .build());
+        }
+        repository.saveAll(calls);
+        pageCount = ROWS / pageSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<EmergencyCallDTO> entityPage() {
+        PageRequest pageRequest = nextPageRequest();
+        return readOnlyTransaction.execute(status -> repository.findAll(pageRequest).map(EmergencyCallDTO::fromEntity));
+    }
+
+    @Benchmark
+    public Page<EmergencyCallDTO> dtoProjectionPage() {
+        PageRequest pageRequest = nextPageRequest();
+        return readOnlyTransaction.execute(status -> repository.findAllDtos(pageRequest));
+    }
+
+    private PageRequest nextPageRequest() {
+        nextPage = (nextPage + 1) % pageCount;
+        return PageRequest.of(nextPage, pageSize, Sort.by("id"));
+    }
+}
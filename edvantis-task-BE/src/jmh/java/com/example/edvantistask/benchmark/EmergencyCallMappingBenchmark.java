@@ -0,0 +1,96 @@
+package com.example.edvantistask.benchmark;
+
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.EmergencyCall;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU-only paths that run on every request: entity to DTO mapping, bean validation of commands and JSON
+ * encoding of a listing page. No Spring context or database is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmergencyCallMappingBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ObjectMapper objectMapper;
+    private EmergencyCall entity;
+    private EmergencyCallCreateCommand validCommand;
+    private EmergencyCallCreateCommand invalidCommand;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        entity = new EmergencyCall(42L, "Jane Doe", "Main Street 1", IncidentType.ACCIDENT, Status.OPEN, 3L, null, null, null, null);
+        validCommand = new EmergencyCallCreateCommand("Jane Doe", "Main Street 1", IncidentType.ACCIDENT, Status.OPEN);
+        invalidCommand = new EmergencyCallCreateCommand("", null, null, Status.OPEN);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public EmergencyCallDTO mapEntityToDto() {
+        return EmergencyCallDTO.fromEntity(entity);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmergencyCallCreateCommand>> validateValidCommand() {
+        return validator.validate(validCommand);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmergencyCallCreateCommand>> validateInvalidCommand() {
+        return validator.validate(invalidCommand);
+    }
+
+    @Benchmark
+    public byte[] serializePage(PageState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.page);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        @Param({"20", "200"})
+        private int pageSize;
+
+        private Page<EmergencyCallDTO> page;
+
+        @Setup
+        public void setUp() {
+            List<EmergencyCallDTO> content = new ArrayList<>(pageSize);
+            for (long i = 0; i < pageSize; i++) {
+                content.add(new EmergencyCallDTO(i, "Caller " + i, "Street " + i, IncidentType.CRIME, Status.OPEN, 0L));
+            }
+            page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        }
+    }
+}
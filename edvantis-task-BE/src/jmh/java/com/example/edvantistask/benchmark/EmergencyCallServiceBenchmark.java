@@ -0,0 +1,81 @@
+package com.example.edvantistask.benchmark;
+
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.command.EmergencyCallUpdateCommand;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.service.EmergencyCallService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercises {@link EmergencyCallService} end to end against H2, including transactions, caching and event
+ * publication. {@code get} reads through the emergency call cache, so it measures the warm path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmergencyCallServiceBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private EmergencyCallService service;
+    private long[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        service = context.getBean(EmergencyCallService.class);
+        ids = new long[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            ids[i] = service.createEmergencyCall(createCommand(i)).id();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmergencyCallDTO create() {
+        return service.createEmergencyCall(createCommand(next++));
+    }
+
+    @Benchmark
+    public EmergencyCallDTO get() {
+        return service.getEmergencyCall(nextId());
+    }
+
+    @Benchmark
+    public Page<EmergencyCallDTO> list() {
+        return service.getAllEmergencyCalls(IncidentType.CRIME, null, PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public EmergencyCallDTO update() {
+        int i = next;
+        Status status = (i & 1) == 0 ? Status.OPEN : Status.CLOSED;
+        return service.updateEmergencyCall(nextId(),
+                new EmergencyCallUpdateCommand("Caller " + i, "Street " + i, IncidentType.ACCIDENT, status), null);
+    }
+
+    private long nextId() {
+        return ids[next++ % ids.length];
+    }
+
+    private static EmergencyCallCreateCommand createCommand(int i) {
+        IncidentType incidentType = IncidentType.values()[i % IncidentType.values().length];
+        return new EmergencyCallCreateCommand("Caller " + i, "Street " + i, incidentType, Status.OPEN);
+    }
+}
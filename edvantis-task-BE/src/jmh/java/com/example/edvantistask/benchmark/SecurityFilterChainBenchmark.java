@@ -0,0 +1,101 @@
+package com.example.edvantistask.benchmark;
+
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.security.AuthenticationCache;
+import com.example.edvantistask.security.TokenService;
+import com.example.edvantistask.service.EmergencyCallService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Runs a cheap (cached) single-call read through the full Spring Security filter chain with MockMvc, so the
+ * numbers are dominated by authentication: Basic with a warm credential cache, Basic with a cold cache (a full
+ * BCrypt verification per request), a bearer token, and an anonymous request that is rejected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityFilterChainBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private AuthenticationCache authenticationCache;
+    private String path;
+    private String basicAuthorization;
+    private String bearerAuthorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .apply(springSecurity())
+                .build();
+        authenticationCache = context.getBean(AuthenticationCache.class);
+
+        long id = context.getBean(EmergencyCallService.class).createEmergencyCall(
+                new EmergencyCallCreateCommand("Caller", "Street", IncidentType.CRIME, Status.OPEN)).id();
+        path = "/api/emergency-calls/" + id;
+        basicAuthorization = "Basic " + Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+        bearerAuthorization = "Bearer " + context.getBean(TokenService.class).issue(
+                UsernamePasswordAuthenticationToken.authenticated("admin", null,
+                        List.of(new SimpleGrantedAuthority("ROLE_ADMIN")))).token();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult basicAuthWarmCache() throws Exception {
+        return perform(basicAuthorization);
+    }
+
+    @Benchmark
+    public MvcResult basicAuthColdCache(ColdCache coldCache) throws Exception {
+        return perform(basicAuthorization);
+    }
+
+    @Benchmark
+    public MvcResult bearerToken() throws Exception {
+        return perform(bearerAuthorization);
+    }
+
+    @Benchmark
+    public MvcResult unauthenticated() throws Exception {
+        return mockMvc.perform(get(path)).andReturn();
+    }
+
+    private MvcResult perform(String authorization) throws Exception {
+        return mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, authorization)).andReturn();
+    }
+
+    @State(Scope.Thread)
+    public static class ColdCache {
+
+        @Setup(Level.Invocation)
+        public void invalidate(SecurityFilterChainBenchmark benchmark) {
+            benchmark.authenticationCache.invalidateAll();
+        }
+    }
+}
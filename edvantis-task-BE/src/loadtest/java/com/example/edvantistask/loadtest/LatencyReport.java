@@ -0,0 +1,122 @@
+package com.example.edvantistask.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-endpoint latency histograms (HdrHistogram, microsecond resolution up to one minute) and error counts.
+ */
+class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        endNanos = System.nanoTime();
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        histograms.get(operation).recordValue(Math.min(latencyNanos / 1_000, HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the endpoints whose 99th percentile exceeds {@code maxP99}.
+     */
+    List<String> p99Violations(Duration maxP99) {
+        List<String> violations = new ArrayList<>();
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() > 0 && histogram.getValueAtPercentile(99) > maxP99.toNanos() / 1_000) {
+                violations.add(operation.endpoint());
+            }
+        });
+        return violations;
+    }
+
+    void print(PrintStream out) {
+        double seconds = elapsedSeconds();
+        out.printf("%-45s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms", "mean ms");
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            out.printf("%-45s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.endpoint(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    errors.get(operation).get(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    histogram.getMean() / 1_000);
+        });
+    }
+
+    void writeJson(Path path) throws IOException {
+        double seconds = elapsedSeconds();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", histogram.getTotalCount());
+            stats.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+            stats.put("errors", errors.get(operation).get());
+            stats.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+            stats.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+            stats.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+            stats.put("maxMillis", millis(histogram.getMaxValue()));
+            stats.put("meanMillis", histogram.getMean() / 1_000);
+            endpoints.put(operation.endpoint(), stats);
+        });
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationSeconds", seconds);
+        report.put("endpoints", endpoints);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+    }
+
+    private double elapsedSeconds() {
+        return Math.max(endNanos - startNanos, 1) / 1_000_000_000d;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000d;
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.edvantistask.loadtest;
+
+import com.example.edvantistask.EdvantisTaskApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load generator for the emergency call API.
+ * <p>
+ * Runs {@code concurrency} workers that each pick an operation from the configured mix, send it, record the
+ * latency per endpoint and pause for an exponentially distributed think time. With {@code --target=embedded}
+ * (the default) the application is started in-process on a random port against H2; any other value is used as
+ * the base URL of a running instance, e.g. the Docker Compose stack on PostgreSQL. When {@code --max-p99} is
+ * given the process exits with status 1 if any endpoint's p99 exceeds it, so it can gate a release.
+ */
+public final class LoadDriver {
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private final LoadProfile profile;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> ids = new CopyOnWriteArrayList<>();
+    private final LatencyReport report = new LatencyReport();
+    private String authorization;
+
+    private LoadDriver(LoadProfile profile, String baseUrl) {
+        this.profile = profile;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.parse(args);
+        ConfigurableApplicationContext context = null;
+        String baseUrl = profile.target();
+        if (LoadProfile.EMBEDDED.equals(profile.target())) {
+            context = startEmbedded(profile.profiles());
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+
+        List<String> violations;
+        try {
+            LoadDriver driver = new LoadDriver(profile, baseUrl);
+            driver.authenticate();
+            driver.seed();
+            driver.run();
+            driver.report.print(System.out);
+            driver.report.writeJson(profile.report());
+            System.out.println("Report written to " + profile.report().toAbsolutePath());
+            violations = profile.maxP99() != null ? driver.report.p99Violations(profile.maxP99()) : List.of();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        if (!violations.isEmpty()) {
+            System.err.println("p99 above " + profile.maxP99().toMillis() + " ms for: " + String.join(", ", violations));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startEmbedded(String extraProfiles) {
+        List<String> profiles = new ArrayList<>(List.of("test"));
+        for (String profile : extraProfiles.split(",")) {
+            if (!profile.isBlank()) {
+                profiles.add(profile.trim());
+            }
+        }
+        return new SpringApplicationBuilder(EdvantisTaskApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework=WARN",
+                        "--logging.level.com.example=WARN");
+    }
+
+    private void authenticate() throws IOException, InterruptedException {
+        if (!profile.bearer()) {
+            String credentials = profile.username() + ":" + profile.password();
+            authorization = "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        String body = objectMapper.writeValueAsString(Map.of(
+                "username", profile.username(), "password", profile.password()));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        authorization = "Bearer " + objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        for (int created = 0; created < profile.seedCalls(); created += SEED_BATCH_SIZE) {
+            int size = Math.min(SEED_BATCH_SIZE, profile.seedCalls() - created);
+            List<Object> commands = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                commands.add(createCommand(created + i));
+            }
+            HttpResponse<String> response = client.send(request("/api/emergency-calls/batch")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(commands)))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+            }
+            for (JsonNode result : objectMapper.readTree(response.body())) {
+                ids.add(result.get("id").asLong());
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(profile.concurrency());
+        long start = System.nanoTime();
+        long measureFrom = start + profile.warmup().toNanos();
+        long end = measureFrom + profile.duration().toNanos();
+        System.out.printf("Running %d workers against %s (Java %d): %ds warmup, %ds measurement%n",
+                profile.concurrency(), baseUrl, Runtime.version().feature(),
+                profile.warmup().toSeconds(), profile.duration().toSeconds());
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < profile.concurrency(); i++) {
+            futures.add(workers.submit(() -> work(start, measureFrom, end)));
+        }
+        Thread.sleep(profile.warmup().toMillis());
+        report.start();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        report.stop();
+        workers.shutdown();
+    }
+
+    private Void work(long start, long measureFrom, long end) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String listEtag = null;
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Operation operation = profile.pick(random, now - start);
+            long sent = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<String> response = client.send(buildRequest(operation, random, listEtag),
+                        HttpResponse.BodyHandlers.ofString());
+                success = response.statusCode() < 400;
+                if (operation == Operation.POLL || operation == Operation.LIST) {
+                    listEtag = response.headers().firstValue("ETag").orElse(listEtag);
+                }
+                if (operation == Operation.CREATE && response.statusCode() == 201) {
+                    ids.add(objectMapper.readTree(response.body()).get("id").asLong());
+                }
+            } catch (IOException e) {
+                success = false;
+            }
+            long latency = System.nanoTime() - sent;
+            if (sent >= measureFrom) {
+                report.record(operation, latency, success);
+            }
+            if (!profile.thinkTime().isZero()) {
+                double mean = profile.thinkTime().toNanos();
+                long pause = (long) (-mean * Math.log(1 - random.nextDouble()));
+                Thread.sleep(pause / 1_000_000, (int) (pause % 1_000_000));
+            }
+        }
+        return null;
+    }
+
+    private HttpRequest buildRequest(Operation operation, ThreadLocalRandom random, String listEtag) throws IOException {
+        return switch (operation) {
+            case LIST -> request("/api/emergency-calls?page=0&size=20").GET().build();
+            case POLL -> {
+                HttpRequest.Builder builder = request("/api/emergency-calls?page=0&size=20").GET();
+                if (listEtag != null) {
+                    builder.header("If-None-Match", listEtag);
+                }
+                yield builder.build();
+            }
+            case GET -> request("/api/emergency-calls/" + randomId(random)).GET().build();
+            case CREATE -> request("/api/emergency-calls")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(createCommand(random.nextInt(1_000_000)))))
+                    .build();
+            case UPDATE -> request("/api/emergency-calls/" + randomId(random))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of(
+                            "callerName", "Caller " + random.nextInt(1_000_000),
+                            "position", "Street " + random.nextInt(1_000),
+                            "incidentType", random.nextBoolean() ? "CRIME" : "ACCIDENT",
+                            "status", random.nextBoolean() ? "OPEN" : "CLOSED"))))
+                    .build();
+        };
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", authorization);
+    }
+
+    private long randomId(ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static Object createCommand(int i) {
+        String[] incidentTypes = {"FIRE", "CRIME", "ACCIDENT"};
+        return Map.of(
+                "callerName", "Caller " + i,
+                "position", "Street " + (i % 1_000),
+                "incidentType", incidentTypes[i % incidentTypes.length],
+                "status", "OPEN");
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.edvantistask.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Load driver settings, parsed from {@code --name=value} arguments on top of a named scenario:
+ * <ul>
+ *     <li>{@code polling} – dashboards polling the list with {@code If-None-Match} and reading single calls</li>
+ *     <li>{@code incident-burst} – polling traffic with periodic bursts dominated by creates</li>
+ *     <li>{@code mixed} – an even mix of listing, reads, creates and updates</li>
+ * </ul>
+ */
+record LoadProfile(
+        String target,
+        String profiles,
+        Duration warmup,
+        Duration duration,
+        int concurrency,
+        Duration thinkTime,
+        Map<Operation, Integer> mix,
+        Map<Operation, Integer> burstMix,
+        Duration burstEvery,
+        Duration burstLength,
+        int seedCalls,
+        String username,
+        String password,
+        boolean bearer,
+        Duration maxP99,
+        Path report
+) {
+    static final String EMBEDDED = "embedded";
+
+    static LoadProfile parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String scenario = options.getOrDefault("scenario", "mixed");
+        Map<Operation, Integer> mix;
+        Map<Operation, Integer> burstMix = Map.of();
+        Duration burstEvery = Duration.ZERO;
+        Duration burstLength = Duration.ZERO;
+        switch (scenario) {
+            case "polling" -> mix = parseMix("poll:70,get:25,update:5");
+            case "incident-burst" -> {
+                mix = parseMix("poll:70,get:25,update:5");
+                burstMix = parseMix("create:70,poll:20,get:10");
+                burstEvery = Duration.ofSeconds(30);
+                burstLength = Duration.ofSeconds(10);
+            }
+            case "mixed" -> mix = parseMix("list:40,get:30,create:15,update:15");
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+        if (options.containsKey("mix")) {
+            mix = parseMix(options.get("mix"));
+        }
+        if (options.containsKey("burst-mix")) {
+            burstMix = parseMix(options.get("burst-mix"));
+        }
+
+        return new LoadProfile(
+                options.getOrDefault("target", EMBEDDED),
+                options.getOrDefault("profiles", ""),
+                duration(options.getOrDefault("warmup", "10s")),
+                duration(options.getOrDefault("duration", "60s")),
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                duration(options.getOrDefault("think-time", "50ms")),
+                mix,
+                burstMix,
+                options.containsKey("burst-every") ? duration(options.get("burst-every")) : burstEvery,
+                options.containsKey("burst-length") ? duration(options.get("burst-length")) : burstLength,
+                Integer.parseInt(options.getOrDefault("seed", "1000")),
+                options.getOrDefault("user", "admin"),
+                options.getOrDefault("password", "admin"),
+                "bearer".equals(options.getOrDefault("auth", "basic")),
+                options.containsKey("max-p99") ? duration(options.get("max-p99")) : null,
+                Path.of(options.getOrDefault("report", "target/loadtest-report.json"))
+        );
+    }
+
+    Operation pick(Random random, long elapsedNanos) {
+        Map<Operation, Integer> weights = inBurst(elapsedNanos) ? burstMix : mix;
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty operation mix");
+    }
+
+    private boolean inBurst(long elapsedNanos) {
+        return !burstMix.isEmpty() && !burstEvery.isZero()
+                && elapsedNanos % burstEvery.toNanos() < burstLength.toNanos();
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.split(":");
+            mix.put(Operation.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+        }
+        return mix;
+    }
+
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofMillis(Long.parseLong(value));
+    }
+}
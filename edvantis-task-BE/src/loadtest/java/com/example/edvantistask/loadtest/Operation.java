@@ -0,0 +1,19 @@
+package com.example.edvantistask.loadtest;
+
+enum Operation {
+    LIST("GET /api/emergency-calls"),
+    POLL("GET /api/emergency-calls (If-None-Match)"),
+    GET("GET /api/emergency-calls/{id}"),
+    CREATE("POST /api/emergency-calls"),
+    UPDATE("PUT /api/emergency-calls/{id}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.edvantistask.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Closed calls created and last changed more than {@code minAge} ago are moved to gzip-compressed NDJSON files in
+ * {@code directory}, compressed {@code blockSize} calls at a time. {@code batchSize} calls are moved per
+ * transaction. With more than one instance, {@code directory} must be storage shared by all of them, since any
+ * instance may serve an archived call, and {@code nodeId} must be unique per instance: it holds the archival
+ * lease, which each batch extends by {@code lease}. On PostgreSQL, monthly partitions are kept ready
+ * {@code partitionsAhead} months beyond the current one.
+ */
+@ConfigurationProperties(prefix = "app.archive")
+public record ArchiveProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("archive") Path directory,
+        @DefaultValue("local") String nodeId,
+        @DefaultValue("90d") Duration minAge,
+        @DefaultValue("1h") Duration interval,
+        @DefaultValue("10m") Duration lease,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("256") int blockSize,
+        @DefaultValue("3") int partitionsAhead,
+        @DefaultValue("12h") Duration partitionCheckInterval
+) {}
@@ -0,0 +1,178 @@
+package com.example.edvantistask.archive;
+
+import com.example.edvantistask.dto.ArchivedEmergencyCallDTO;
+import com.example.edvantistask.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cold storage for archived calls: NDJSON files made of independently gzip-compressed blocks. Concatenated gzip
+ * members are still one valid gzip stream, so a whole file reads back with {@code zcat}, while a single call is
+ * read by decompressing only the block that holds it.
+ */
+@Component
+public class EmergencyCallArchiveFiles {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    /**
+     * {@code length} bytes at {@code offset} of {@code fileName} form one gzip member.
+     */
+    public record Block(String fileName, long offset, int length) {}
+
+    private final Path directory;
+    private final int blockSize;
+    private final ObjectMapper objectMapper;
+
+    public EmergencyCallArchiveFiles(ArchiveProperties properties, ObjectMapper objectMapper) {
+        this.directory = properties.directory().toAbsolutePath().normalize();
+        this.blockSize = properties.blockSize();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Starts a new archive file; its name begins with {@code startedAt} so that files sort by age.
+     */
+    public Writer create(Instant startedAt) {
+        String fileName = "emergency-calls-" + FILE_TIME.format(startedAt) + "-"
+                + UUID.randomUUID().toString().substring(0, 8) + ".ndjson.gz";
+        try {
+            Files.createDirectories(directory);
+            return new Writer(fileName, FileChannel.open(directory.resolve(fileName),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create archive file " + fileName, e);
+        }
+    }
+
+    /**
+     * Returns call {@code id} from {@code block}, or empty if the block does not hold it.
+     *
+     * @throws ServiceUnavailableException if the file is missing here, which means the archive directory is not
+     *                                     shared with the instance that wrote it
+     */
+    public Optional<ArchivedEmergencyCallDTO> read(Block block, long id) {
+        Path file = directory.resolve(block.fileName()).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IllegalArgumentException("Archive file outside the archive directory: " + block.fileName());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(block.length());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, block.offset() + buffer.position()) < 0) {
+                    throw new IOException("Archive block ends past the end of " + block.fileName());
+                }
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(new ByteArrayInputStream(buffer.array())), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    ArchivedEmergencyCallDTO call = objectMapper.readValue(line, ArchivedEmergencyCallDTO.class);
+                    if (call.id() == id) {
+                        return Optional.of(call);
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            throw new ServiceUnavailableException("Archive file " + block.fileName() + " is not available on this instance");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read archive file " + block.fileName(), e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Appends to one archive file. Not thread-safe; a file that is closed without any calls in it is removed.
+     */
+    public final class Writer implements Closeable {
+
+        private final String fileName;
+        private final FileChannel channel;
+        private long position;
+
+        private Writer(String fileName, FileChannel channel) {
+            this.fileName = fileName;
+            this.channel = channel;
+        }
+
+        /**
+         * Writes {@code calls} and forces them to disk, so they can be removed from the database once this
+         * returns. The result holds the block of each call, in order. A failed write is cut off again, so the
+         * file stays a valid gzip stream.
+         */
+        public List<Block> append(List<ArchivedEmergencyCallDTO> calls) {
+            List<Block> blocks = new ArrayList<>(calls.size());
+            long start = position;
+            try {
+                for (int from = 0; from < calls.size(); from += blockSize) {
+                    List<ArchivedEmergencyCallDTO> chunk = calls.subList(from, Math.min(calls.size(), from + blockSize));
+                    ByteBuffer compressed = ByteBuffer.wrap(compress(chunk));
+                    Block block = new Block(fileName, position, compressed.remaining());
+                    while (compressed.hasRemaining()) {
+                        position += channel.write(compressed, position);
+                    }
+                    blocks.addAll(Collections.nCopies(chunk.size(), block));
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                UncheckedIOException failure = new UncheckedIOException("Cannot write archive file " + fileName, e);
+                try {
+                    channel.truncate(start);
+                    position = start;
+                } catch (IOException truncateFailure) {
+                    failure.addSuppressed(truncateFailure);
+                }
+                throw failure;
+            }
+            return blocks;
+        }
+
+        private byte[] compress(List<ArchivedEmergencyCallDTO> calls) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                for (ArchivedEmergencyCallDTO call : calls) {
+                    gzip.write(objectMapper.writeValueAsBytes(call));
+                    gzip.write('\n');
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+                if (position == 0) {
+                    Files.deleteIfExists(directory.resolve(fileName));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot close archive file " + fileName, e);
+            }
+        }
+    }
+}
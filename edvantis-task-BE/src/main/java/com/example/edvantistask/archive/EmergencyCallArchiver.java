@@ -0,0 +1,176 @@
+package com.example.edvantistask.archive;
+
+import com.example.edvantistask.config.CacheConfig;
+import com.example.edvantistask.dto.ArchivedEmergencyCallDTO;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.ArchivedEmergencyCall;
+import com.example.edvantistask.model.EmergencyCall;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.repository.ArchivedEmergencyCallRepository;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import com.example.edvantistask.repository.SchedulerLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves closed calls older than {@code app.archive.min-age} from {@code emergency_calls} to cold storage every
+ * {@code app.archive.interval}.
+ * <p>
+ * Each batch is locked, written to the run's archive file and forced to disk before the same transaction indexes
+ * it in {@code emergency_call_archive} and deletes it, so a call is never lost between the two: if the transaction
+ * fails, the written block is simply never referenced. Archival is published as an
+ * {@link EmergencyCallEvent.Type#ARCHIVED} change, so the history, the outbox, the statistics and the event stream
+ * treat it like a removal.
+ * <p>
+ * Only the instance holding the {@value #LEASE} lease archives. Each batch extends the lease in its own
+ * transaction before touching any call, so a run that stalls past {@code app.archive.lease} and is taken over
+ * stops at its next batch instead of archiving alongside the new holder.
+ */
+@Slf4j
+@Component
+public class EmergencyCallArchiver {
+
+    static final String LEASE = "emergency-call-archive";
+
+    private final EmergencyCallRepository repository;
+    private final ArchivedEmergencyCallRepository archiveRepository;
+    private final SchedulerLeaseRepository leases;
+    private final EmergencyCallArchiveFiles files;
+    private final ArchiveProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transaction;
+    private final Clock clock;
+    private final Counter archived;
+    private final Timer runTimer;
+
+    @Autowired
+    public EmergencyCallArchiver(EmergencyCallRepository repository, ArchivedEmergencyCallRepository archiveRepository,
+                                 SchedulerLeaseRepository leases, EmergencyCallArchiveFiles files,
+                                 ArchiveProperties properties, ApplicationEventPublisher eventPublisher,
+                                 CacheManager cacheManager, PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this(repository, archiveRepository, leases, files, properties, eventPublisher, cacheManager, transactionManager,
+                meterRegistry, Clock.systemUTC());
+    }
+
+    EmergencyCallArchiver(EmergencyCallRepository repository, ArchivedEmergencyCallRepository archiveRepository,
+                          SchedulerLeaseRepository leases, EmergencyCallArchiveFiles files,
+                          ArchiveProperties properties, ApplicationEventPublisher eventPublisher,
+                          CacheManager cacheManager, PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry, Clock clock) {
+        this.repository = repository;
+        this.archiveRepository = archiveRepository;
+        this.leases = leases;
+        this.files = files;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.archived = Counter.builder("emergency.call.archive.archived")
+                .description("Emergency calls moved to cold storage")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("emergency.call.archive.run")
+                .description("Time spent per archival run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:1h}", initialDelayString = "${app.archive.interval:1h}")
+    public void scheduledArchive() {
+        if (properties.enabled()) {
+            archive();
+        }
+    }
+
+    /**
+     * Archives every eligible call, batch by batch, into one new file and returns how many were moved. Returns 0
+     * without archiving anything while another instance holds the lease.
+     */
+    public int archive() {
+        if (!Boolean.TRUE.equals(transaction.execute(status -> extendLease()))) {
+            log.debug("Archival lease is held by another instance");
+            return 0;
+        }
+        Instant now = clock.instant();
+        Instant cutoff = now.minus(properties.minAge());
+        Timer.Sample sample = Timer.start();
+        int total = 0;
+        try (EmergencyCallArchiveFiles.Writer writer = files.create(now)) {
+            List<Long> ids;
+            do {
+                ids = transaction.execute(status -> archiveBatch(writer, cutoff, now));
+                evict(ids);
+                total += ids.size();
+            } while (ids.size() == properties.batchSize());
+        } finally {
+            sample.stop(runTimer);
+        }
+        transaction.executeWithoutResult(status -> leases.release(LEASE, properties.nodeId(), clock.instant()));
+        if (total > 0) {
+            log.info("Archived {} emergency calls closed before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private boolean extendLease() {
+        Instant now = clock.instant();
+        return leases.acquire(LEASE, properties.nodeId(), now, now.plus(properties.lease())) == 1;
+    }
+
+    private List<Long> archiveBatch(EmergencyCallArchiveFiles.Writer writer, Instant cutoff, Instant archivedAt) {
+        if (!extendLease()) {
+            log.warn("Archival lease was taken over by another instance, stopping this run");
+            return List.of();
+        }
+        List<EmergencyCall> calls = repository.findArchivable(Status.CLOSED, cutoff, PageRequest.of(0, properties.batchSize()));
+        if (calls.isEmpty()) {
+            return List.of();
+        }
+        List<EmergencyCallArchiveFiles.Block> blocks = writer.append(calls.stream()
+                .map(call -> ArchivedEmergencyCallDTO.fromEntity(call, archivedAt))
+                .toList());
+        List<ArchivedEmergencyCall> entries = new ArrayList<>(calls.size());
+        List<Long> ids = new ArrayList<>(calls.size());
+        for (int i = 0; i < calls.size(); i++) {
+            EmergencyCallArchiveFiles.Block block = blocks.get(i);
+            entries.add(ArchivedEmergencyCall.builder()
+                    .callId(calls.get(i).getId())
+                    .fileName(block.fileName())
+                    .blockOffset(block.offset())
+                    .blockLength(block.length())
+                    .archivedAt(archivedAt)
+                    .build());
+            ids.add(calls.get(i).getId());
+        }
+        archiveRepository.saveAll(entries);
+        repository.deleteAllByIdInBatch(ids);
+        calls.forEach(call -> eventPublisher.publishEvent(EmergencyCallEvent.archived(EmergencyCallDTO.fromEntity(call))));
+        archived.increment(calls.size());
+        return ids;
+    }
+
+    private void evict(List<Long> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.EMERGENCY_CALLS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.edvantistask.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of {@code emergency_calls} on PostgreSQL, where migration V7_1 partitions the
+ * table by {@code created_at}. The current month and the next {@code app.archive.partitions-ahead} ones are
+ * created before any row needs them, so new calls never fall into the default partition. Months that ended
+ * before {@code app.archive.min-age} are dropped once archival has emptied them. Other databases have a plain
+ * table and are left alone.
+ */
+@Slf4j
+@Component
+public class EmergencyCallPartitions {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("emergency_calls_(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final ArchiveProperties properties;
+    private final Clock clock;
+    private final boolean postgres;
+
+    public EmergencyCallPartitions(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                   PlatformTransactionManager transactionManager, ArchiveProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = Clock.systemUTC();
+        this.postgres = isPostgres(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.archive.partition-check-interval:12h}",
+            initialDelayString = "${app.archive.partition-check-interval:12h}")
+    public void maintain() {
+        if (!postgres || !isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= properties.partitionsAhead(); i++) {
+            create(current.plusMonths(i));
+        }
+        YearMonth firstKept = YearMonth.from(clock.instant().minus(properties.minAge()).atZone(ZoneOffset.UTC));
+        for (String partition : partitions()) {
+            Matcher name = PARTITION_NAME.matcher(partition);
+            if (name.matches() && YearMonth.of(Integer.parseInt(name.group(1)), Integer.parseInt(name.group(2))).isBefore(firstKept)) {
+                dropIfEmpty(partition);
+            }
+        }
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_partitioned_table p "
+                + "JOIN pg_class c ON c.oid = p.partrelid WHERE c.relname = 'emergency_calls' "
+                + "AND c.relnamespace = to_regnamespace(current_schema())", Integer.class);
+        return count != null && count > 0;
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent "
+                + "WHERE p.relname = 'emergency_calls' AND p.relnamespace = to_regnamespace(current_schema())", String.class);
+    }
+
+    /**
+     * Fails if the default partition already holds rows of {@code month}; that is logged and retried on the
+     * next check.
+     */
+    private void create(YearMonth month) {
+        String sql = String.format("CREATE TABLE IF NOT EXISTS emergency_calls_%d_%02d PARTITION OF emergency_calls "
+                        + "FOR VALUES FROM ('%s 00:00:00+00') TO ('%s 00:00:00+00')",
+                month.getYear(), month.getMonthValue(), month.atDay(1), month.plusMonths(1).atDay(1));
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (DataAccessException e) {
+            log.warn("Cannot create emergency call partition for {}: {}", month, e.getMessage());
+        }
+    }
+
+    /**
+     * Locks the partition before checking it, so no row can arrive between the check and the drop.
+     */
+    private void dropIfEmpty(String partition) {
+        try {
+            Boolean dropped = transaction.execute(status -> {
+                jdbcTemplate.execute("LOCK TABLE " + partition + " IN ACCESS EXCLUSIVE MODE");
+                Boolean hasRows = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class);
+                if (Boolean.TRUE.equals(hasRows)) {
+                    return false;
+                }
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                return true;
+            });
+            if (Boolean.TRUE.equals(dropped)) {
+                log.info("Dropped empty emergency call partition {}", partition);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Cannot drop emergency call partition {}: {}", partition, e.getMessage());
+        }
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName) == DatabaseDriver.POSTGRESQL;
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.edvantistask.audit;
+
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.EmergencyCallAuditEvent;
+import com.example.edvantistask.repository.EmergencyCallAuditRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * Appends every change published by the service to {@code emergency_call_events} just before the writing
+ * transaction commits, so a change and its history entry are committed or rolled back together. The entries
+ * of one transaction are flushed as a single JDBC batch. Writes through the reactive API are not recorded.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmergencyCallAuditTrail {
+
+    static final String SYSTEM_ACTOR = "system";
+
+    private final EmergencyCallAuditRepository repository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEmergencyCallEvent(EmergencyCallEvent event) {
+        repository.save(EmergencyCallAuditEvent.of(event, currentActor(), Instant.now()));
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : SYSTEM_ACTOR;
+    }
+}
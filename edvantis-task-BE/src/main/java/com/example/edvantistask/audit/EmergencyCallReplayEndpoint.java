@@ -0,0 +1,36 @@
+package com.example.edvantistask.audit;
+
+import com.example.edvantistask.dto.EmergencyCallReplayResult;
+import com.example.edvantistask.service.EmergencyCallAuditService;
+import com.example.edvantistask.stats.EmergencyCallStatistics;
+import com.example.edvantistask.store.OpenEmergencyCallStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * {@code POST /actuator/replay} rebuilds {@code emergency_calls} from the event log, optionally as of
+ * {@code asOf}, and then reloads the in-memory views of the table. Meant for recovery while writes are stopped:
+ * changes committed during a replay can be lost.
+ */
+@Component
+@Endpoint(id = "replay")
+@RequiredArgsConstructor
+public class EmergencyCallReplayEndpoint {
+
+    private final EmergencyCallAuditService auditService;
+    private final OpenEmergencyCallStore openCalls;
+    private final EmergencyCallStatistics statistics;
+
+    @WriteOperation
+    public EmergencyCallReplayResult replay(@Nullable Instant asOf) {
+        EmergencyCallReplayResult result = auditService.replay(asOf);
+        openCalls.refresh();
+        statistics.reconcile();
+        return result;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.edvantistask.command;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * {@code version} is the version the caller last saw; when present, an item whose call has moved on is
+ * reported as a conflict instead of being deleted. A bare id is read as an item without a version.
+ */
+public record EmergencyCallBatchDeleteCommand(
+        @NotNull(message = "Id is required") Long id,
+        Long version
+) {
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static EmergencyCallBatchDeleteCommand of(Long id) {
+        return new EmergencyCallBatchDeleteCommand(id, null);
+    }
+}
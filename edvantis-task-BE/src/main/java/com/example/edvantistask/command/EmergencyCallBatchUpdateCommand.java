@@ -0,0 +1,24 @@
+package com.example.edvantistask.command;
+
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * {@code version} is the version the caller last saw; when present, an item whose call has moved on is
+ * reported as a conflict instead of being applied.
+ */
+public record EmergencyCallBatchUpdateCommand(
+        @NotNull(message = "Id is required") Long id,
+        @NotBlank(message = "Caller name is required") @Size(max = 255, message = "Caller name must be at most 255 characters") String callerName,
+        @NotBlank(message = "Position is required") @Size(max = 255, message = "Position must be at most 255 characters") String position,
+        @NotNull(message = "Incident type is required") IncidentType incidentType,
+        @NotNull(message = "Status is required") Status status,
+        Long version
+) {
+    public EmergencyCallUpdateCommand toUpdateCommand() {
+        return new EmergencyCallUpdateCommand(callerName, position, incidentType, status);
+    }
+}
@@ -5,10 +5,11 @@ import com.example.edvantistask.model.IncidentType;
 import com.example.edvantistask.model.Status;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 public record EmergencyCallCreateCommand(
-        @NotBlank(message = "Caller name is required") String callerName,
-        @NotBlank(message = "Position is required") String position,
+        @NotBlank(message = "Caller name is required") @Size(max = 255, message = "Caller name must be at most 255 characters") String callerName,
+        @NotBlank(message = "Position is required") @Size(max = 255, message = "Position must be at most 255 characters") String position,
         @NotNull(message = "Incident type is required") IncidentType incidentType,
         @NotNull(message = "Status is required") Status status
 ) {
@@ -0,0 +1,18 @@
+package com.example.edvantistask.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * The caching advice is ordered outside the transaction advice, so cache hits never open a transaction
+ * and puts/evictions only happen once the surrounding transaction has committed.
+ * The cache provider is chosen through {@code spring.cache.*}; any {@link org.springframework.cache.CacheManager}
+ * (for example a distributed one with cross-node invalidation) can replace the local Caffeine cache.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String EMERGENCY_CALLS_CACHE = "emergencyCalls";
+}
@@ -0,0 +1,70 @@
+package com.example.edvantistask.config;
+
+import com.example.edvantistask.datasource.DataSourceRoutingProperties;
+import com.example.edvantistask.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * With {@code app.datasource.routing.enabled}, the application's {@link DataSource} routes read-only
+ * transactions to the configured replicas and everything else to the primary from {@code spring.datasource}
+ * (pool settings still come from {@code spring.datasource.hikari}). Flyway, the query log and database
+ * detection see the primary, because they run outside read-only transactions.
+ * <p>
+ * Replica pools wait at most the health check timeout for a connection, so a read against a replica that has
+ * stopped answering falls back to the primary quickly instead of after Hikari's default 30 seconds.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final long MIN_HIKARI_TIMEOUT_MILLIS = 250;
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                 DataSourceRoutingProperties properties,
+                                                                 Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.replicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(replica.name());
+            pool.setJdbcUrl(replica.url());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+            pool.setMaximumPoolSize(replica.maximumPoolSize());
+            pool.setConnectionTimeout(Math.max(MIN_HIKARI_TIMEOUT_MILLIS, properties.healthCheckTimeout().toMillis()));
+            pool.setValidationTimeout(Math.max(MIN_HIKARI_TIMEOUT_MILLIS, properties.healthCheckTimeout().toMillis()));
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(replica.name(), pool);
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, properties.readYourWritesWindow(),
+                properties.healthCheckInterval(), properties.healthCheckTimeout(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.edvantistask.config;
+
+import com.example.edvantistask.logging.QueryLogProperties;
+import com.example.edvantistask.logging.QueryLoggingListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * SQL is no longer echoed through {@code spring.jpa.show-sql}; data sources are instead wrapped with a
+ * {@link QueryLoggingListener} that only writes slow and sampled statements. Routing data sources are skipped
+ * because the data source in front of them is wrapped, so every statement is logged once. MDC entries such as
+ * the correlation id are copied onto task executor threads, so asynchronous request work stays correlated.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    static BeanPostProcessor queryLoggingDataSourcePostProcessor(ObjectProvider<QueryLogProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof AbstractRoutingDataSource) && properties.getObject().enabled()) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryLoggingListener(properties.getObject()))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return task -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                setContext(context);
+                try {
+                    task.run();
+                } finally {
+                    setContext(previous);
+                }
+            };
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        } else {
+            MDC.clear();
+        }
+    }
+}
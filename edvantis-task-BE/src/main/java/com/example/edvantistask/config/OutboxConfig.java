@@ -0,0 +1,32 @@
+package com.example.edvantistask.config;
+
+import com.example.edvantistask.outbox.FileEventSink;
+import com.example.edvantistask.outbox.InMemoryEventSink;
+import com.example.edvantistask.outbox.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Built-in outbox sinks for local runs and tests. Production deployments set {@code app.outbox.sink} to their
+ * own value and declare an {@link com.example.edvantistask.outbox.EmergencyCallEventSink} bean for the broker
+ * or downstream API.
+ */
+@Configuration
+public class OutboxConfig {
+
+    private static final int IN_MEMORY_SINK_CAPACITY = 10_000;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "memory", matchIfMissing = true)
+    public InMemoryEventSink inMemoryEventSink() {
+        return new InMemoryEventSink(IN_MEMORY_SINK_CAPACITY);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "file")
+    public FileEventSink fileEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return new FileEventSink(properties.file(), objectMapper);
+    }
+}
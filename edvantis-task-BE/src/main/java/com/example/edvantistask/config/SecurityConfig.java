@@ -2,18 +2,28 @@ package com.example.edvantistask.config;
 
 import com.example.edvantistask.model.UserAccount;
 import com.example.edvantistask.repository.UserAccountRepository;
+import com.example.edvantistask.security.AuthenticationCache;
+import com.example.edvantistask.security.AuthenticationMetrics;
+import com.example.edvantistask.security.CachingAuthenticationProvider;
+import com.example.edvantistask.security.MeteredAuthenticationManager;
+import com.example.edvantistask.security.TokenAuthenticationFilter;
+import com.example.edvantistask.security.TokenService;
 import com.example.edvantistask.service.CustomUserDetailsService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.cors.*;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
@@ -31,29 +41,42 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenService tokenService,
+                                                   AuthenticationManager authenticationManager,
+                                                   AuthenticationMetrics authenticationMetrics) throws Exception {
         http
+                .authenticationManager(authenticationManager)
                 .cors(withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/api/register").permitAll()
+                        .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/api/register", "/api/login").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/emergency-calls/**").hasAnyRole("READ", "WRITE", "USER", "ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/emergency-calls/**").hasAnyRole("WRITE", "USER", "ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/emergency-calls/**").hasAnyRole("WRITE", "USER", "ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/emergency-calls/**").hasAnyRole("WRITE", "USER", "ADMIN")
                         .anyRequest().authenticated()
                 )
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService, authenticationMetrics), BasicAuthenticationFilter.class)
                 .httpBasic(withDefaults());
 
         return http.build();
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public CachingAuthenticationProvider authenticationProvider(AuthenticationCache authenticationCache) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
-        return authProvider;
+        return new CachingAuthenticationProvider(authProvider, authenticationCache);
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager(CachingAuthenticationProvider authenticationProvider,
+                                                       AuthenticationMetrics authenticationMetrics) {
+        return new MeteredAuthenticationManager(new ProviderManager(authenticationProvider), authenticationMetrics);
     }
 
     @Bean
@@ -0,0 +1,20 @@
+package com.example.edvantistask.controller;
+
+import com.example.edvantistask.dto.ArchivedEmergencyCallDTO;
+import com.example.edvantistask.service.EmergencyCallArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/emergency-calls")
+@RequiredArgsConstructor
+public class EmergencyCallArchiveController {
+
+    private final EmergencyCallArchiveService archiveService;
+
+    @GetMapping("/archive/{id}")
+    public ResponseEntity<ArchivedEmergencyCallDTO> getArchivedEmergencyCall(@PathVariable Long id) {
+        return ResponseEntity.ok(archiveService.getArchivedEmergencyCall(id));
+    }
+}
@@ -1,17 +1,32 @@
 package com.example.edvantistask.controller;
 
+import com.example.edvantistask.command.EmergencyCallBatchDeleteCommand;
+import com.example.edvantistask.command.EmergencyCallBatchUpdateCommand;
 import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.dto.BatchItemResult;
+import com.example.edvantistask.dto.CursorPage;
+import com.example.edvantistask.dto.EmergencyCallDistanceDTO;
 import com.example.edvantistask.dto.EmergencyCallDTO;
 import com.example.edvantistask.command.EmergencyCallUpdateCommand;
 import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.service.EmergencyCallExportService;
 import com.example.edvantistask.service.EmergencyCallService;
+import com.example.edvantistask.service.ExportFormat;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/emergency-calls")
@@ -19,6 +34,7 @@ import org.springframework.web.bind.annotation.*;
 public class EmergencyCallController {
 
     private final EmergencyCallService service;
+    private final EmergencyCallExportService exportService;
 
     @PostMapping
     public ResponseEntity<EmergencyCallDTO> createEmergencyCall(@Validated @RequestBody EmergencyCallCreateCommand command) {
@@ -26,30 +42,130 @@ public class EmergencyCallController {
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> createEmergencyCalls(@RequestBody List<EmergencyCallCreateCommand> commands) {
+        return ResponseEntity.ok(service.createEmergencyCalls(commands));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> updateEmergencyCalls(@RequestBody List<EmergencyCallBatchUpdateCommand> commands) {
+        return ResponseEntity.ok(service.updateEmergencyCalls(commands));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> deleteEmergencyCalls(@RequestBody List<EmergencyCallBatchDeleteCommand> commands) {
+        return ResponseEntity.ok(service.deleteEmergencyCalls(commands));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EmergencyCallDTO> getEmergencyCall(@PathVariable Long id) {
         EmergencyCallDTO dto = service.getEmergencyCall(id);
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok().eTag(EntityTags.of(dto)).body(dto);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<EmergencyCallDTO> updateEmergencyCall(@PathVariable Long id,
-                                                                @Validated @RequestBody EmergencyCallUpdateCommand command) {
-        EmergencyCallDTO updated = service.updateEmergencyCall(id, command);
-        return ResponseEntity.ok(updated);
+                                                                @Validated @RequestBody EmergencyCallUpdateCommand command,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EmergencyCallDTO updated = service.updateEmergencyCall(id, command, EntityTags.parseVersions(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updated)).body(updated);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEmergencyCall(@PathVariable Long id) {
-        service.deleteEmergencyCall(id);
+    public ResponseEntity<Void> deleteEmergencyCall(@PathVariable Long id,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.deleteEmergencyCall(id, EntityTags.parseVersions(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping
     public ResponseEntity<Page<EmergencyCallDTO>> getAllEmergencyCalls(
             @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            @RequestParam(value = "status", required = false) Status status,
             Pageable pageable) {
-        Page<EmergencyCallDTO> page = service.getAllEmergencyCalls(incidentType, pageable);
-        return ResponseEntity.ok(page);
+        Page<EmergencyCallDTO> page = service.getAllEmergencyCalls(incidentType, status, pageable);
+        String etag = EntityTags.ofCollection(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
+        return ResponseEntity.ok().eTag(etag).body(page);
+    }
+
+    @GetMapping(params = {"createdFrom", "!limit"})
+    public ResponseEntity<Page<EmergencyCallDTO>> getEmergencyCallsCreatedBetween(
+            @RequestParam("createdFrom") Instant createdFrom,
+            @RequestParam(value = "createdTo", required = false) Instant createdTo,
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            @RequestParam(value = "status", required = false) Status status,
+            Pageable pageable) {
+        Page<EmergencyCallDTO> page = service.getEmergencyCallsCreatedBetween(createdFrom, createdTo, incidentType, status, pageable);
+        String etag = EntityTags.ofCollection(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
+        return ResponseEntity.ok().eTag(etag).body(page);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<EmergencyCallDTO>> getEmergencyCallsAfter(
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            @RequestParam(value = "status", required = false) Status status,
+            @RequestParam(value = "createdFrom", required = false) Instant createdFrom,
+            @RequestParam(value = "createdTo", required = false) Instant createdTo,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam("limit") int limit) {
+        CursorPage<EmergencyCallDTO> page = service.getEmergencyCallsAfter(incidentType, status, createdFrom, createdTo, after, limit);
+        return ResponseEntity.ok().eTag(EntityTags.ofCollection(page.content(), page.nextCursor())).body(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<EmergencyCallDTO>> searchEmergencyCalls(
+            @RequestParam("q") String query,
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            @RequestParam(value = "status", required = false) Status status,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(service.searchEmergencyCalls(query, incidentType, status, limit));
+    }
+
+    @GetMapping("/nearest")
+    public ResponseEntity<List<EmergencyCallDistanceDTO>> findNearestEmergencyCalls(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lon") double longitude,
+            @RequestParam(value = "k", defaultValue = "10") int count,
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            @RequestParam(value = "status", required = false) Status status) {
+        return ResponseEntity.ok(service.findNearestEmergencyCalls(latitude, longitude, count, incidentType, status));
+    }
+
+    @GetMapping("/within-radius")
+    public ResponseEntity<List<EmergencyCallDistanceDTO>> findEmergencyCallsWithinRadius(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lon") double longitude,
+            @RequestParam("radius") double radiusMeters,
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            @RequestParam(value = "status", required = false) Status status,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        return ResponseEntity.ok(service.findEmergencyCallsWithinRadius(latitude, longitude, radiusMeters, incidentType, status, limit));
+    }
+
+    @GetMapping("/within-box")
+    public ResponseEntity<List<EmergencyCallDTO>> findEmergencyCallsWithinBox(
+            @RequestParam("minLat") double minLatitude,
+            @RequestParam("minLon") double minLongitude,
+            @RequestParam("maxLat") double maxLatitude,
+            @RequestParam("maxLon") double maxLongitude,
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            @RequestParam(value = "status", required = false) Status status,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        return ResponseEntity.ok(service.findEmergencyCallsWithinBox(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                incidentType, status, limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmergencyCalls(
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> exportService.export(incidentType, format, outputStream);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("emergency-calls." + format.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
     }
 }
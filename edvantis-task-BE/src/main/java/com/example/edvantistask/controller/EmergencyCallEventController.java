@@ -0,0 +1,32 @@
+package com.example.edvantistask.controller;
+
+import com.example.edvantistask.event.EmergencyCallEventBroadcaster;
+import com.example.edvantistask.event.EventFilter;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/emergency-calls")
+@RequiredArgsConstructor
+public class EmergencyCallEventController {
+
+    private final EmergencyCallEventBroadcaster broadcaster;
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(value = "incidentType", required = false) List<IncidentType> incidentTypes,
+            @RequestParam(value = "status", required = false) List<Status> statuses,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        EventFilter filter = new EventFilter(
+                incidentTypes != null ? Set.copyOf(incidentTypes) : Set.of(),
+                statuses != null ? Set.copyOf(statuses) : Set.of());
+        return broadcaster.subscribe(filter, lastEventId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.edvantistask.controller;
+
+import com.example.edvantistask.dto.EmergencyCallHistoryDTO;
+import com.example.edvantistask.service.EmergencyCallAuditService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/emergency-calls")
+@RequiredArgsConstructor
+public class EmergencyCallHistoryController {
+
+    private final EmergencyCallAuditService auditService;
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<EmergencyCallHistoryDTO>> getHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(auditService.getHistory(id));
+    }
+}
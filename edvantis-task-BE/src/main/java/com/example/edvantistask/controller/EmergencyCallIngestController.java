@@ -0,0 +1,43 @@
+package com.example.edvantistask.controller;
+
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.dto.IngestStatusDTO;
+import com.example.edvantistask.ingest.EmergencyCallIngestQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * With ingestion enabled, a create sent with {@code Prefer: respond-async} is queued and answered with
+ * {@code 202 Accepted} and a tracking id instead of waiting for its own commit. Without the header, or with
+ * ingestion disabled, the preference is ignored and the call is created synchronously.
+ */
+@RestController
+@RequestMapping("/api/emergency-calls")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.ingest", name = "enabled", havingValue = "true")
+public class EmergencyCallIngestController {
+
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    private final EmergencyCallIngestQueue ingestQueue;
+
+    @PostMapping(headers = PREFER_HEADER + "=" + RESPOND_ASYNC)
+    public ResponseEntity<IngestStatusDTO> ingestEmergencyCall(@Validated @RequestBody EmergencyCallCreateCommand command) {
+        IngestStatusDTO queued = ingestQueue.submit(command);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/emergency-calls/ingest/" + queued.trackingId()))
+                .header("Preference-Applied", RESPOND_ASYNC)
+                .body(queued);
+    }
+
+    @GetMapping("/ingest/{trackingId}")
+    public ResponseEntity<IngestStatusDTO> getIngestStatus(@PathVariable long trackingId) {
+        return ResponseEntity.ok(ingestQueue.getStatus(trackingId));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.edvantistask.controller;
+
+import com.example.edvantistask.dto.EmergencyCallStatsDTO;
+import com.example.edvantistask.stats.EmergencyCallStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/emergency-calls")
+@RequiredArgsConstructor
+public class EmergencyCallStatsController {
+
+    private final EmergencyCallStatistics statistics;
+
+    @GetMapping("/stats")
+    public ResponseEntity<EmergencyCallStatsDTO> getStats(
+            @RequestParam(value = "buckets", defaultValue = "false") boolean includeBuckets) {
+        return ResponseEntity.ok(statistics.snapshot(includeBuckets));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.edvantistask.controller;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.exception.InvalidRequestException;
+import com.example.edvantistask.exception.PreconditionFailedException;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String of(EmergencyCallDTO call) {
+        return "\"" + call.version() + "\"";
+    }
+
+    public static String ofCollection(List<EmergencyCallDTO> calls, Object... qualifiers) {
+        StringBuilder key = new StringBuilder();
+        for (Object qualifier : qualifiers) {
+            key.append(qualifier).append('|');
+        }
+        for (EmergencyCallDTO call : calls) {
+            key.append(call.id()).append(':').append(call.version()).append(',');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * The versions an {@code If-Match} header accepts, or {@code null} when it is absent or {@code *}. Any tag in the
+     * list may match. If-Match uses the strong comparison, so weak tags never match, and neither does a quoted tag
+     * that is not a version.
+     *
+     * @throws PreconditionFailedException if no tag in the header can match a current representation
+     */
+    public static Set<Long> parseVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String entry : ifMatch.split(",")) {
+            String tag = entry.trim();
+            if (tag.startsWith("W/")) {
+                continue;
+            }
+            if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                throw new InvalidRequestException("Invalid If-Match header: " + ifMatch);
+            }
+            try {
+                versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+            } catch (NumberFormatException e) {
+                // an opaque tag we never issued
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " matches no current representation");
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.edvantistask.controller;
+
+import com.example.edvantistask.dto.LoginRequest;
+import com.example.edvantistask.dto.TokenResponse;
+import com.example.edvantistask.security.TokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class LoginController {
+
+    private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+
+    @PostMapping("/login")
+    public TokenResponse login(@Validated @RequestBody LoginRequest request) {
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(request.username(), request.password()));
+        return tokenService.issue(authentication);
+    }
+}
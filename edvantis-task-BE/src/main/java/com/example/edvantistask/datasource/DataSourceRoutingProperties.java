@@ -0,0 +1,30 @@
+package com.example.edvantistask.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas behind {@code spring.datasource}, which remains the primary. Replicas use the primary's
+ * driver and, when {@code username}/{@code password} are not set, its credentials. A
+ * {@code readYourWritesWindow} of zero turns read-your-writes pinning off. {@code healthCheckTimeout} also bounds
+ * how long a read waits for a replica connection before falling back to the primary.
+ */
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("2s") Duration healthCheckTimeout,
+        @DefaultValue("5s") Duration readYourWritesWindow
+) {
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {}
+}
@@ -0,0 +1,224 @@
+package com.example.edvantistask.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for read-only transactions to the healthy replicas in turn and everything else, including
+ * work outside a transaction, to the primary. It must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so that the route is chosen once
+ * the transaction's read-only flag is known.
+ * <p>
+ * A user whose read-write transaction has just committed keeps reading from the primary for the read-your-writes
+ * window, so replication lag never hides their own changes; the window starts at the commit, not when the
+ * transaction took its connection, and is tracked per instance. Reads inside {@link #readFromPrimary} always
+ * use the primary. Replicas are
+ * validated every health check interval; a replica that fails a check or a connection attempt is skipped
+ * until it passes again, and reads fall back to the primary when none is healthy.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Cache<String, Boolean> recentWriters;
+    private final Duration healthCheckTimeout;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter fallbacks;
+    private final ScheduledExecutorService healthChecks;
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration readYourWritesWindow,
+                                      Duration healthCheckInterval, Duration healthCheckTimeout, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.healthCheckTimeout = healthCheckTimeout;
+        this.recentWriters = readYourWritesWindow.isZero()
+                ? null
+                : Caffeine.newBuilder().expireAfterWrite(readYourWritesWindow).build();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            targets.put(name, dataSource);
+            Gauge.builder("datasource.replica.healthy", replica, candidate -> candidate.healthy ? 1 : 0)
+                    .description("Whether the read replica currently receives read-only transactions")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because a replica could not be used")
+                .register(meterRegistry);
+        this.healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = healthCheckInterval.toMillis();
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs {@code read} with its read-only connections taken from the primary. Reads whose results outlive the
+     * request, such as entries of a cache shared by every user, must not come from a replica that may still lag
+     * behind a write another user has just made.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        boolean outermost = PRIMARY_READS.get() == null;
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (outermost) {
+                PRIMARY_READS.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && recentWriters != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.put(user, Boolean.TRUE);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (PRIMARY_READS.get() != null
+                || user != null && recentWriters != null && recentWriters.getIfPresent(user) != null) {
+            return PRIMARY;
+        }
+        Replica replica = nextHealthyReplica();
+        return replica != null ? replica.name : PRIMARY;
+    }
+
+    /**
+     * Falls back to the primary, and takes the replica out of rotation, when a replica refuses a connection.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        Replica replica = replicas.stream().filter(candidate -> candidate.name.equals(key)).findFirst().orElseThrow();
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(replica, e);
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Connections for explicit credentials are never routed.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Validates a connection to every replica and updates which ones take part in the rotation.
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                boolean valid = connection.isValid((int) Math.max(1, healthCheckTimeout.toSeconds()));
+                if (valid && !replica.healthy) {
+                    log.info("Read replica {} is healthy again", replica.name);
+                }
+                replica.healthy = valid;
+            } catch (SQLException e) {
+                markUnhealthy(replica, e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        healthChecks.shutdownNow();
+        for (Object target : getResolvedDataSources().values()) {
+            if (target instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        if (size > 0) {
+            fallbacks.increment();
+        }
+        return null;
+    }
+
+    private static void markUnhealthy(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            log.warn("Read replica {} taken out of rotation: {}", replica.name, cause.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken) ? authentication.getName() : null;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.edvantistask.dto;
+
+import com.example.edvantistask.model.EmergencyCall;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+
+import java.time.Instant;
+
+/**
+ * The last state of a call in cold storage. Archive files hold one of these per line.
+ */
+public record ArchivedEmergencyCallDTO(
+        Long id,
+        String callerName,
+        String position,
+        IncidentType incidentType,
+        Status status,
+        Long version,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant archivedAt
+) {
+    public static ArchivedEmergencyCallDTO fromEntity(EmergencyCall call, Instant archivedAt) {
+        return new ArchivedEmergencyCallDTO(
+                call.getId(),
+                call.getCallerName(),
+                call.getPosition(),
+                call.getIncidentType(),
+                call.getStatus(),
+                call.getVersion(),
+                call.getCreatedAt(),
+                call.getUpdatedAt(),
+                archivedAt
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.edvantistask.dto;
+
+import java.util.List;
+
+public record BatchItemResult(
+        int index,
+        Long id,
+        Outcome outcome,
+        List<String> errors
+) {
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        DELETED,
+        INVALID,
+        NOT_FOUND,
+        CONFLICT
+    }
+
+    public static BatchItemResult success(int index, Long id, Outcome outcome) {
+        return new BatchItemResult(index, id, outcome, List.of());
+    }
+
+    public static BatchItemResult invalid(int index, Long id, List<String> errors) {
+        return new BatchItemResult(index, id, Outcome.INVALID, errors);
+    }
+
+    public static BatchItemResult notFound(int index, Long id) {
+        return new BatchItemResult(index, id, Outcome.NOT_FOUND, List.of(String.format("Emergency Call not found with id: %d", id)));
+    }
+
+    public static BatchItemResult conflict(int index, Long id, Long version, Long expectedVersion) {
+        return new BatchItemResult(index, id, Outcome.CONFLICT,
+                List.of(String.format("Emergency Call %d is at version %d, expected %d", id, version, expectedVersion)));
+    }
+}
@@ -11,7 +11,8 @@ public record EmergencyCallDTO(
         @NotBlank(message = "Caller name is required") String callerName,
         @NotBlank(message = "Position is required") String position,
         @NotNull(message = "Incident type is required") IncidentType incidentType,
-        @NotBlank(message = "Status is required") Status status
+        @NotBlank(message = "Status is required") Status status,
+        Long version
 ) {
     public static EmergencyCallDTO fromEntity(EmergencyCall call) {
         return new EmergencyCallDTO(
@@ -19,7 +20,8 @@ public record EmergencyCallDTO(
                 call.getCallerName(),
                 call.getPosition(),
                 call.getIncidentType(),
-                call.getStatus()
+                call.getStatus(),
+                call.getVersion()
         );
     }
 }
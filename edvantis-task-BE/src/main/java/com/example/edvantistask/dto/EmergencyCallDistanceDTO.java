@@ -0,0 +1,6 @@
+package com.example.edvantistask.dto;
+
+public record EmergencyCallDistanceDTO(
+        EmergencyCallDTO call,
+        double distanceMeters
+) {}
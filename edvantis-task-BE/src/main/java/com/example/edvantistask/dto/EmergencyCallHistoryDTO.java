@@ -0,0 +1,18 @@
+package com.example.edvantistask.dto;
+
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+
+import java.time.Instant;
+
+public record EmergencyCallHistoryDTO(
+        Long version,
+        EmergencyCallEvent.Type type,
+        String callerName,
+        String position,
+        IncidentType incidentType,
+        Status status,
+        Instant occurredAt,
+        String actor
+) {}
@@ -0,0 +1,15 @@
+package com.example.edvantistask.dto;
+
+import java.time.Instant;
+
+/**
+ * {@code removed} and {@code restored} count rows brought back in line with the log; {@code reverted} counts
+ * calls changed after {@code asOf} whose earlier state was written again as a new change.
+ */
+public record EmergencyCallReplayResult(
+        Instant asOf,
+        long removed,
+        long restored,
+        long reverted,
+        long elapsedMillis
+) {}
@@ -0,0 +1,26 @@
+package com.example.edvantistask.dto;
+
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Current number of calls per incident type and status. {@code buckets} is only present when requested and
+ * holds the calls created in each time bucket, oldest first.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmergencyCallStatsDTO(
+        Map<IncidentType, Map<Status, Long>> counts,
+        long total,
+        Instant reconciledAt,
+        List<Bucket> buckets
+) {
+    public record Bucket(
+            Instant start,
+            Map<IncidentType, Long> created
+    ) {}
+}
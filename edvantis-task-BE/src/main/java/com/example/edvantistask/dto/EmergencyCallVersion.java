@@ -0,0 +1,11 @@
+package com.example.edvantistask.dto;
+
+/**
+ * The version a call is at.
+ */
+public interface EmergencyCallVersion {
+
+    Long getId();
+
+    Long getVersion();
+}
@@ -0,0 +1,16 @@
+package com.example.edvantistask.dto;
+
+import com.example.edvantistask.model.IncidentType;
+
+/**
+ * Calls of one incident type created in one time bucket; {@code bucket} is the bucket's start in epoch
+ * milliseconds divided by the bucket size.
+ */
+public interface IncidentBucketCount {
+
+    IncidentType getIncidentType();
+
+    long getBucket();
+
+    long getCreated();
+}
@@ -0,0 +1,10 @@
+package com.example.edvantistask.dto;
+
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+
+public record IncidentStatusCount(
+        IncidentType incidentType,
+        Status status,
+        long count
+) {}
@@ -0,0 +1,27 @@
+package com.example.edvantistask.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * {@code callId} is known for calls created since this instance started; {@code errors} explain a
+ * {@link Status#REJECTED} command.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IngestStatusDTO(
+        long trackingId,
+        Status status,
+        Long callId,
+        List<String> errors
+) {
+    public enum Status {
+        QUEUED,
+        CREATED,
+        REJECTED
+    }
+
+    public static IngestStatusDTO queued(long trackingId) {
+        return new IngestStatusDTO(trackingId, Status.QUEUED, null, null);
+    }
+}
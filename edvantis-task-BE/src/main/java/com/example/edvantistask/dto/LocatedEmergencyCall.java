@@ -0,0 +1,19 @@
+package com.example.edvantistask.dto;
+
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+
+public record LocatedEmergencyCall(
+        Long id,
+        String callerName,
+        String position,
+        IncidentType incidentType,
+        Status status,
+        Long version,
+        double latitude,
+        double longitude
+) {
+    public EmergencyCallDTO toDto() {
+        return new EmergencyCallDTO(id, callerName, position, incidentType, status, version);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.edvantistask.dto;
+
+import java.time.Instant;
+
+public record TokenResponse(
+        String token,
+        String tokenType,
+        Instant expiresAt
+) {}
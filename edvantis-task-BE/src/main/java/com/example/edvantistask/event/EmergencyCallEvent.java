@@ -0,0 +1,48 @@
+package com.example.edvantistask.event;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+
+/**
+ * Published by the service inside the writing transaction. {@code call} is the state after the change
+ * (absent for deletions and archival) and {@code previous} the state before it (absent for creations).
+ */
+public record EmergencyCallEvent(
+        Type type,
+        Long id,
+        EmergencyCallDTO call,
+        EmergencyCallDTO previous
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /**
+         * Moved from {@code emergency_calls} to cold storage by the archiver.
+         */
+        ARCHIVED
+    }
+
+    /**
+     * The version the change leaves the call at. A deletion or archival takes the version after the last state,
+     * so the highest version of a call always describes its outcome.
+     */
+    public long version() {
+        return call != null ? call.version() : previous.version() + 1;
+    }
+
+    public static EmergencyCallEvent created(EmergencyCallDTO call) {
+        return new EmergencyCallEvent(Type.CREATED, call.id(), call, null);
+    }
+
+    public static EmergencyCallEvent updated(EmergencyCallDTO call, EmergencyCallDTO previous) {
+        return new EmergencyCallEvent(Type.UPDATED, call.id(), call, previous);
+    }
+
+    public static EmergencyCallEvent deleted(EmergencyCallDTO previous) {
+        return new EmergencyCallEvent(Type.DELETED, previous.id(), null, previous);
+    }
+
+    public static EmergencyCallEvent archived(EmergencyCallDTO previous) {
+        return new EmergencyCallEvent(Type.ARCHIVED, previous.id(), null, previous);
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.edvantistask.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed emergency call changes out to Server-Sent Events subscribers.
+ * <p>
+ * Every subscriber has a bounded queue drained on a small delivery pool, so a slow client never blocks
+ * the committing thread or other subscribers; a subscriber whose queue overflows is disconnected and can
+ * resume with {@code Last-Event-ID}. Recent events are kept in a bounded history for that purpose. When the
+ * requested id is no longer in the history (or comes from another process) a {@code reset} event tells the
+ * client to reload its state before continuing.
+ */
+@Slf4j
+@Component
+public class EmergencyCallEventBroadcaster {
+
+    static final String RESET_EVENT = "reset";
+
+    private final EventStreamProperties properties;
+    private final ExecutorService deliveryExecutor;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Object lock = new Object();
+    private final ArrayDeque<SequencedEvent> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long sequence;
+
+    @Autowired
+    public EmergencyCallEventBroadcaster(EventStreamProperties properties) {
+        this(properties, Executors.newFixedThreadPool(properties.deliveryThreads(), deliveryThreadFactory()));
+    }
+
+    EmergencyCallEventBroadcaster(EventStreamProperties properties, ExecutorService deliveryExecutor) {
+        this.properties = properties;
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    public SseEmitter subscribe(EventFilter filter, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.emitterTimeout().toMillis());
+        subscribe(emitter, filter, lastEventId);
+        return emitter;
+    }
+
+    void subscribe(SseEmitter emitter, EventFilter filter, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter, filter, new ArrayBlockingQueue<>(properties.subscriberBufferSize()));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        synchronized (lock) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmergencyCallEvent(EmergencyCallEvent event) {
+        List<Subscriber> ready = new ArrayList<>();
+        List<Subscriber> overflowing = new ArrayList<>();
+        synchronized (lock) {
+            SequencedEvent sequenced = new SequencedEvent(++sequence, event);
+            history.addLast(sequenced);
+            if (history.size() > properties.historySize()) {
+                history.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.filter().matches(event)) {
+                    continue;
+                }
+                if (subscriber.queue().offer(sequenced)) {
+                    ready.add(subscriber);
+                } else {
+                    overflowing.add(subscriber);
+                }
+            }
+        }
+        ready.forEach(this::schedule);
+        overflowing.forEach(this::disconnectSlowConsumer);
+    }
+
+    @Scheduled(fixedDelay = 15_000)
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatPending().set(true);
+            schedule(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+        deliveryExecutor.shutdown();
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        SequencedEvent oldest = history.peekFirst();
+        long oldestAvailable = oldest != null ? oldest.sequence() : sequence + 1;
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence + 1 < oldestAvailable) {
+            subscriber.resetPending().set(true);
+            return;
+        }
+        for (SequencedEvent event : history) {
+            if (event.sequence() > lastSequence && subscriber.filter().matches(event.event())
+                    && !subscriber.queue().offer(event)) {
+                subscriber.queue().clear();
+                subscriber.resetPending().set(true);
+                return;
+            }
+        }
+    }
+
+    private long parseSequence(String eventId) {
+        int separator = eventId.indexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled().compareAndSet(false, true)) {
+            try {
+                deliveryExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled().set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.resetPending().getAndSet(false)) {
+                subscriber.emitter().send(SseEmitter.event().name(RESET_EVENT).data(""));
+            }
+            SequencedEvent event;
+            while ((event = subscriber.queue().poll()) != null) {
+                subscriber.emitter().send(SseEmitter.event()
+                        .id(epoch + "-" + event.sequence())
+                        .name(event.event().type().name())
+                        .data(event.event(), MediaType.APPLICATION_JSON));
+            }
+            if (subscriber.heartbeatPending().getAndSet(false)) {
+                subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            return;
+        } finally {
+            subscriber.scheduled().set(false);
+        }
+        if (!subscriber.queue().isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void disconnectSlowConsumer(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Disconnecting slow event stream subscriber after {} buffered events", properties.subscriberBufferSize());
+            subscriber.emitter().complete();
+        }
+    }
+
+    private static ThreadFactory deliveryThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "event-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record SequencedEvent(long sequence, EmergencyCallEvent event) {}
+
+    private record Subscriber(
+            SseEmitter emitter,
+            EventFilter filter,
+            BlockingQueue<SequencedEvent> queue,
+            AtomicBoolean scheduled,
+            AtomicBoolean resetPending,
+            AtomicBoolean heartbeatPending
+    ) {
+        Subscriber(SseEmitter emitter, EventFilter filter, BlockingQueue<SequencedEvent> queue) {
+            this(emitter, filter, queue, new AtomicBoolean(), new AtomicBoolean(), new AtomicBoolean());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.edvantistask.event;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+
+import java.util.Set;
+
+public record EventFilter(
+        Set<IncidentType> incidentTypes,
+        Set<Status> statuses
+) {
+    public static final EventFilter ALL = new EventFilter(Set.of(), Set.of());
+
+    /**
+     * An update matches when either side of it does, so subscribers also learn about calls leaving their view.
+     */
+    public boolean matches(EmergencyCallEvent event) {
+        return matches(event.call()) || matches(event.previous());
+    }
+
+    private boolean matches(EmergencyCallDTO call) {
+        return call != null
+                && (incidentTypes.isEmpty() || incidentTypes.contains(call.incidentType()))
+                && (statuses.isEmpty() || statuses.contains(call.status()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.edvantistask.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.events")
+public record EventStreamProperties(
+        @DefaultValue("256") int subscriberBufferSize,
+        @DefaultValue("1000") int historySize,
+        @DefaultValue("4") int deliveryThreads,
+        @DefaultValue("30m") Duration emitterTimeout
+) {}
@@ -1,10 +1,12 @@
 package com.example.edvantistask.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -51,6 +53,41 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(apiError, notFoundStatus);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiError> handlePreconditionFailed(PreconditionFailedException ex) {
+        HttpStatusCode preconditionFailedStatus = HttpStatus.PRECONDITION_FAILED;
+        ApiError apiError = new ApiError(preconditionFailedStatus, ex.getMessage(), List.of("Resource has been modified"));
+        return new ResponseEntity<>(apiError, preconditionFailedStatus);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        HttpStatusCode conflictStatus = HttpStatus.CONFLICT;
+        ApiError apiError = new ApiError(conflictStatus, "Emergency Call was modified concurrently", List.of("Concurrent modification"));
+        return new ResponseEntity<>(apiError, conflictStatus);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiError> handleInvalidRequest(InvalidRequestException ex) {
+        HttpStatusCode badRequestStatus = HttpStatus.BAD_REQUEST;
+        ApiError apiError = new ApiError(badRequestStatus, ex.getMessage(), List.of("Invalid request"));
+        return new ResponseEntity<>(apiError, badRequestStatus);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiError> handleServiceUnavailable(ServiceUnavailableException ex) {
+        HttpStatusCode unavailableStatus = HttpStatus.SERVICE_UNAVAILABLE;
+        ApiError apiError = new ApiError(unavailableStatus, ex.getMessage(), List.of("Try again later"));
+        return ResponseEntity.status(unavailableStatus).header(HttpHeaders.RETRY_AFTER, "1").body(apiError);
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ApiError> handleAuthentication(AuthenticationException ex) {
+        HttpStatusCode unauthorizedStatus = HttpStatus.UNAUTHORIZED;
+        ApiError apiError = new ApiError(unauthorizedStatus, ex.getMessage(), List.of("Authentication failed"));
+        return new ResponseEntity<>(apiError, unauthorizedStatus);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleAllExceptions(Exception ex) {
         HttpStatusCode internalStatus = HttpStatus.INTERNAL_SERVER_ERROR;
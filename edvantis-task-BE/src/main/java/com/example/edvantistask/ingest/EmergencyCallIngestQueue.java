@@ -0,0 +1,307 @@
+package com.example.edvantistask.ingest;
+
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.dto.BatchItemResult;
+import com.example.edvantistask.dto.IngestStatusDTO;
+import com.example.edvantistask.exception.ResourceNotFoundException;
+import com.example.edvantistask.exception.ServiceUnavailableException;
+import com.example.edvantistask.model.IngestCheckpoint;
+import com.example.edvantistask.repository.IngestCheckpointRepository;
+import com.example.edvantistask.service.EmergencyCallService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLDataException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind intake for emergency call creation, enabled with {@code app.ingest.enabled}.
+ * <p>
+ * {@link #submit} appends the validated command to the local {@link IngestLog} and returns its sequence as
+ * the tracking id without touching the database. A single writer thread takes everything queued since its
+ * last commit (up to {@code batchSize}) and creates it through the batch create in one transaction that also
+ * advances this node's checkpoint, so batches grow with the load and a restart replays exactly the records
+ * after the checkpoint. While the database is unavailable, commits are retried and intake continues until
+ * {@code maxPending} records are waiting. A batch the database refuses because of its data (a constraint
+ * violation or a value a column cannot hold) is not retried: it is split in halves until the offending records
+ * are isolated, and those are marked {@code REJECTED} while the rest are created.
+ * <p>
+ * Calls created this way are audited as {@code system}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.ingest", name = "enabled", havingValue = "true")
+public class EmergencyCallIngestQueue implements SmartLifecycle {
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(200);
+
+    private record Entry(long sequence, EmergencyCallCreateCommand command) {}
+
+    private final IngestProperties properties;
+    private final EmergencyCallService service;
+    private final IngestCheckpointRepository checkpointRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final BlockingQueue<Entry> pending = new LinkedBlockingQueue<>();
+    private final Cache<Long, IngestStatusDTO> statuses;
+    private final Timer commitTimer;
+    private final DistributionSummary batchSizes;
+    private volatile IngestLog ingestLog;
+    private volatile long checkpoint;
+    private volatile boolean running;
+    private Thread writer;
+
+    public EmergencyCallIngestQueue(IngestProperties properties, EmergencyCallService service,
+                                    IngestCheckpointRepository checkpointRepository, ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.service = service;
+        this.checkpointRepository = checkpointRepository;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(properties.statusRetention())
+                .maximumSize(properties.maxPending())
+                .build();
+        this.commitTimer = Timer.builder("emergency.call.ingest.commit")
+                .description("Time to write one batch of queued emergency calls to the database")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("emergency.call.ingest.batch.size")
+                .description("Emergency calls written per ingestion batch")
+                .register(meterRegistry);
+        Gauge.builder("emergency.call.ingest.pending", pending, BlockingQueue::size)
+                .description("Accepted emergency calls not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Makes {@code command} durable in the local log and queues it for the writer.
+     *
+     * @throws ServiceUnavailableException if {@code maxPending} commands are already waiting
+     */
+    public IngestStatusDTO submit(EmergencyCallCreateCommand command) {
+        if (!running) {
+            throw new ServiceUnavailableException("Emergency call ingestion is not running");
+        }
+        if (pending.size() >= properties.maxPending()) {
+            throw new ServiceUnavailableException("Emergency call ingestion queue is full");
+        }
+        long sequence = ingestLog.append(serialize(command), appended -> pending.add(new Entry(appended, command)));
+        if (properties.syncOnAppend()) {
+            ingestLog.sync(sequence);
+        }
+        return IngestStatusDTO.queued(sequence);
+    }
+
+    public IngestStatusDTO getStatus(long trackingId) {
+        IngestStatusDTO status = statuses.getIfPresent(trackingId);
+        if (status != null) {
+            return status;
+        }
+        if (trackingId < 1 || trackingId > ingestLog.lastSequence()) {
+            throw new ResourceNotFoundException(String.format("Ingestion not found with tracking id: %d", trackingId));
+        }
+        return trackingId <= checkpoint
+                ? new IngestStatusDTO(trackingId, IngestStatusDTO.Status.CREATED, null, null)
+                : IngestStatusDTO.queued(trackingId);
+    }
+
+    /**
+     * Reads this node's checkpoint, reopens the log, queues every record after the checkpoint and starts the
+     * writer.
+     */
+    @Override
+    public void start() {
+        IngestCheckpoint stored = checkpointRepository.findById(properties.nodeId())
+                .orElseGet(() -> checkpointRepository.save(new IngestCheckpoint(properties.nodeId(), 0L, Instant.now())));
+        checkpoint = stored.getSequence();
+        try {
+            ingestLog = IngestLog.open(properties.directory(), (int) properties.segmentSize().toBytes(), checkpoint,
+                    record -> pending.add(new Entry(record.sequence(), deserialize(record.payload()))));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open ingestion log in " + properties.directory(), e);
+        }
+        if (!pending.isEmpty()) {
+            log.info("Recovered {} queued emergency calls after checkpoint {}", pending.size(), checkpoint);
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops after the batch being written; queued records stay in the log for the next start.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join(MAX_RETRY_BACKOFF.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ingestLog.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(properties.batchSize());
+        try {
+            while (running) {
+                Entry first = pending.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch, properties.batchSize() - 1);
+                commit(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void commit(List<Entry> batch) throws InterruptedException {
+        commit(batch, null);
+    }
+
+    /**
+     * Writes {@code batch} and advances the checkpoint, retrying transient failures with backoff until it
+     * succeeds or the queue is stopped. With a {@code rejection}, nothing is created and the records are only
+     * marked rejected and skipped. The thread is never interrupted while a transaction is open.
+     */
+    private void commit(List<Entry> batch, String rejection) throws InterruptedException {
+        List<EmergencyCallCreateCommand> commands = rejection == null ? batch.stream().map(Entry::command).toList() : List.of();
+        long lastSequence = batch.get(batch.size() - 1).sequence();
+        Duration backoff = properties.retryBackoff();
+        while (running) {
+            try {
+                List<BatchItemResult> results = commitTimer.recordCallable(() -> transaction.execute(status -> {
+                    List<BatchItemResult> created = commands.isEmpty() ? List.of() : service.createEmergencyCalls(commands);
+                    checkpointRepository.advance(properties.nodeId(), lastSequence, Instant.now());
+                    return created;
+                }));
+                checkpoint = lastSequence;
+                for (int i = 0; i < batch.size(); i++) {
+                    long sequence = batch.get(i).sequence();
+                    statuses.put(sequence, rejection == null
+                            ? toStatus(sequence, results.get(i))
+                            : new IngestStatusDTO(sequence, IngestStatusDTO.Status.REJECTED, null, List.of(rejection)));
+                }
+                if (rejection == null) {
+                    batchSizes.record(batch.size());
+                }
+                ingestLog.release(lastSequence);
+                return;
+            } catch (Exception e) {
+                if (rejection == null && isRejection(e)) {
+                    reject(batch, e);
+                    return;
+                }
+                log.warn("Cannot write {} queued emergency calls, retrying in {}", batch.size(), backoff, e);
+                sleep(backoff);
+                backoff = backoff.multipliedBy(2).compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    /**
+     * Splits a batch the database refused in halves and writes each, so only the records that cause the
+     * failure end up rejected.
+     */
+    private void reject(List<Entry> batch, Exception failure) throws InterruptedException {
+        if (batch.size() > 1) {
+            int half = batch.size() / 2;
+            commit(batch.subList(0, half));
+            commit(batch.subList(half, batch.size()));
+            return;
+        }
+        long sequence = batch.get(0).sequence();
+        log.warn("Rejecting queued emergency call {}: {}", sequence, NestedExceptionUtils.getMostSpecificCause(failure).toString());
+        commit(batch, "Rejected by the database: " + NestedExceptionUtils.getMostSpecificCause(failure).getMessage());
+    }
+
+    /**
+     * Whether {@code failure} is caused by the data being written, so that retrying the same records cannot
+     * succeed. Lost connections, timeouts, deadlocks and anything unrecognised are retried.
+     */
+    static boolean isRejection(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException || cause instanceof RecoverableDataAccessException
+                    || cause instanceof NonTransientDataAccessResourceException
+                    || cause instanceof SQLTransientException || cause instanceof SQLRecoverableException) {
+                return false;
+            }
+            if (cause instanceof DataIntegrityViolationException || cause instanceof ConstraintViolationException
+                    || cause instanceof SQLIntegrityConstraintViolationException || cause instanceof SQLDataException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sleep(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        while (running && System.nanoTime() < deadline) {
+            Thread.sleep(Math.min(POLL_TIMEOUT.toMillis(), Math.max(1, (deadline - System.nanoTime()) / 1_000_000)));
+        }
+    }
+
+    private static IngestStatusDTO toStatus(long sequence, BatchItemResult result) {
+        return result.outcome() == BatchItemResult.Outcome.CREATED
+                ? new IngestStatusDTO(sequence, IngestStatusDTO.Status.CREATED, result.id(), null)
+                : new IngestStatusDTO(sequence, IngestStatusDTO.Status.REJECTED, null, result.errors());
+    }
+
+    private byte[] serialize(EmergencyCallCreateCommand command) {
+        try {
+            return objectMapper.writeValueAsBytes(command);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize emergency call command", e);
+        }
+    }
+
+    private EmergencyCallCreateCommand deserialize(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, EmergencyCallCreateCommand.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read queued emergency call command", e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.edvantistask.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of memory-mapped segment files named after the sequence of their first record.
+ * <p>
+ * A record is {@code length, sequence, crc32, payload}; its length is written last, so a record torn by a
+ * crash reads as the end of the log and is overwritten by the next append. Data written to the mapping
+ * survives a process crash; {@link #sync(long)} additionally forces it to disk, and concurrent callers share
+ * one force for everything appended before it started. Segments are deleted once every record in them has
+ * been {@linkplain #release(long) released}.
+ */
+@Slf4j
+class IngestLog implements Closeable {
+
+    static final int HEADER_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    record Record(long sequence, byte[] payload) {}
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private final List<Segment> segments = new ArrayList<>();
+    private long lastSequence;
+    private volatile long durableSequence;
+
+    private IngestLog(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Opens the log in {@code directory} and hands every intact record after {@code checkpoint} to
+     * {@code recovered}, in sequence order. New records continue after the last intact one, or after the
+     * checkpoint if the log is behind it.
+     */
+    static IngestLog open(Path directory, int segmentSize, long checkpoint, Consumer<Record> recovered) throws IOException {
+        Files.createDirectories(directory);
+        IngestLog ingestLog = new IngestLog(directory, segmentSize);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+        for (Path file : files) {
+            ingestLog.segments.add(Segment.recover(file, checkpoint, recovered));
+        }
+        ingestLog.lastSequence = ingestLog.segments.stream()
+                .mapToLong(segment -> segment.lastSequence)
+                .max()
+                .orElse(0);
+        ingestLog.lastSequence = Math.max(ingestLog.lastSequence, checkpoint);
+        ingestLog.durableSequence = ingestLog.lastSequence;
+        ingestLog.release(checkpoint);
+        return ingestLog;
+    }
+
+    long lastSequence() {
+        synchronized (appendLock) {
+            return lastSequence;
+        }
+    }
+
+    /**
+     * Appends {@code payload} and returns its sequence. {@code afterAppend} runs under the append lock, so
+     * records are observed in sequence order.
+     */
+    long append(byte[] payload, Consumer<Long> afterAppend) {
+        if (HEADER_SIZE + payload.length > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit a log segment");
+        }
+        synchronized (appendLock) {
+            Segment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (active == null || active.remaining() < HEADER_SIZE + payload.length) {
+                active = Segment.create(directory.resolve(String.format("%020d.log", lastSequence + 1)), segmentSize);
+                segments.add(active);
+            }
+            long sequence = lastSequence + 1;
+            active.write(sequence, payload);
+            lastSequence = sequence;
+            afterAppend.accept(sequence);
+            return sequence;
+        }
+    }
+
+    /**
+     * Returns once the record with {@code sequence} and every record before it are on disk.
+     */
+    void sync(long sequence) {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durableSequence >= sequence) {
+                return;
+            }
+            long target;
+            List<Segment> dirty;
+            synchronized (appendLock) {
+                target = lastSequence;
+                dirty = segments.stream().filter(segment -> segment.lastSequence > durableSequence).toList();
+            }
+            dirty.forEach(Segment::force);
+            durableSequence = target;
+        }
+    }
+
+    /**
+     * Deletes the segments whose records all have a sequence up to {@code sequence}. The segment being
+     * appended to is kept.
+     */
+    void release(long sequence) {
+        synchronized (appendLock) {
+            while (segments.size() > 1 && segments.get(0).lastSequence <= sequence) {
+                segments.remove(0).delete();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (appendLock) {
+            segments.forEach(Segment::force);
+            segments.forEach(Segment::close);
+            segments.clear();
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private long lastSequence;
+
+        private Segment(Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path file, int size) {
+            try {
+                FileChannel channel = FileChannel.open(file,
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                return new Segment(file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create ingestion log segment " + file, e);
+            }
+        }
+
+        /**
+         * Maps an existing segment and positions it after its last intact record. Anything beyond, such as a
+         * record torn by a crash, is zeroed.
+         */
+        static Segment recover(Path file, long checkpoint, Consumer<Record> recovered) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+            MappedByteBuffer buffer = segment.buffer;
+            while (buffer.remaining() >= HEADER_SIZE) {
+                int start = buffer.position();
+                int length = buffer.getInt(start);
+                if (length <= 0 || length > buffer.remaining() - HEADER_SIZE) {
+                    break;
+                }
+                long sequence = buffer.getLong(start + Integer.BYTES);
+                int crc = buffer.getInt(start + Integer.BYTES + Long.BYTES);
+                byte[] payload = new byte[length];
+                buffer.get(start + HEADER_SIZE, payload);
+                if (crc != checksum(sequence, payload) || (segment.lastSequence != 0 && sequence != segment.lastSequence + 1)) {
+                    log.warn("Ingestion log segment {} ends with a damaged record at offset {}", file, start);
+                    break;
+                }
+                segment.lastSequence = sequence;
+                if (sequence > checkpoint) {
+                    recovered.accept(new Record(sequence, payload));
+                }
+                buffer.position(start + HEADER_SIZE + length);
+            }
+            for (int offset = buffer.position(); offset < buffer.limit(); offset++) {
+                if (buffer.get(offset) != 0) {
+                    buffer.put(offset, (byte) 0);
+                }
+            }
+            return segment;
+        }
+
+        int remaining() {
+            return buffer.remaining();
+        }
+
+        void write(long sequence, byte[] payload) {
+            int start = buffer.position();
+            buffer.putLong(start + Integer.BYTES, sequence);
+            buffer.putInt(start + Integer.BYTES + Long.BYTES, checksum(sequence, payload));
+            buffer.put(start + HEADER_SIZE, payload);
+            buffer.putInt(start, payload.length);
+            buffer.position(start + HEADER_SIZE + payload.length);
+            lastSequence = sequence;
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Cannot close ingestion log segment {}", file, e);
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Cannot delete ingestion log segment {}", file, e);
+            }
+        }
+
+        private static int checksum(long sequence, byte[] payload) {
+            CRC32 crc = new CRC32();
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                crc.update((int) (sequence >>> shift));
+            }
+            crc.update(payload);
+            return (int) crc.getValue();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.edvantistask.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * {@code nodeId} names this instance's checkpoint and must be stable across restarts and unique per
+ * {@code directory}. {@code batchSize} is capped by the 1000-call limit of the batch create and checked at
+ * startup.
+ */
+@ConfigurationProperties(prefix = "app.ingest")
+public record IngestProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("ingest-log") Path directory,
+        @DefaultValue("local") String nodeId,
+        @DefaultValue("16MB") DataSize segmentSize,
+        @DefaultValue("true") boolean syncOnAppend,
+        @DefaultValue("100000") int maxPending,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("1s") Duration retryBackoff,
+        @DefaultValue("1h") Duration statusRetention
+) {
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    public IngestProperties {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("app.ingest.batch-size must be between 1 and %d, was %d", MAX_BATCH_SIZE, batchSize));
+        }
+    }
+}
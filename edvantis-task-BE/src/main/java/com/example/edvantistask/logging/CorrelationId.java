@@ -0,0 +1,10 @@
+package com.example.edvantistask.logging;
+
+public final class CorrelationId {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    private CorrelationId() {
+    }
+}
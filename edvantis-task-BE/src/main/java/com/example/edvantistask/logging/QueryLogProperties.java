@@ -0,0 +1,14 @@
+package com.example.edvantistask.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.query-log")
+public record QueryLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200ms") Duration slowThreshold,
+        @DefaultValue("0.01") double sampleRate,
+        @DefaultValue("1000") int maxSqlLength
+) {}
@@ -0,0 +1,60 @@
+package com.example.edvantistask.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Logs statements slower than {@code app.query-log.slow-threshold} at WARN and a random
+ * {@code app.query-log.sample-rate} share of the others at INFO, instead of printing every statement.
+ * Only the SQL text, timing and batch size are logged. Bind parameters are left out because they carry
+ * caller data. The request correlation id comes from the MDC of the executing thread.
+ */
+@Slf4j
+public class QueryLoggingListener implements QueryExecutionListener {
+
+    private final QueryLogProperties properties;
+
+    public QueryLoggingListener(QueryLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        boolean slow = elapsedMillis >= properties.slowThreshold().toMillis();
+        if (slow ? !log.isWarnEnabled() : !log.isInfoEnabled() || !sampled()) {
+            return;
+        }
+        int batchSize = execInfo.isBatch() ? execInfo.getBatchSize() : 1;
+        String sql = sql(queryInfoList);
+        (slow ? log.atWarn() : log.atInfo())
+                .addKeyValue("durationMs", elapsedMillis)
+                .addKeyValue("batchSize", batchSize)
+                .addKeyValue("success", execInfo.isSuccess())
+                .addKeyValue("sql", sql)
+                .log("{} query took {} ms (batch size {}): {}", slow ? "Slow" : "Sampled", elapsedMillis, batchSize, sql);
+    }
+
+    private boolean sampled() {
+        double rate = properties.sampleRate();
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private String sql(List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .distinct()
+                .collect(Collectors.joining("; "));
+        return sql.length() <= properties.maxSqlLength() ? sql : sql.substring(0, properties.maxSqlLength()) + "...";
+    }
+}
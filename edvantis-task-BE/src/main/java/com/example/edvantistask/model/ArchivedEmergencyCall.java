@@ -0,0 +1,61 @@
+package com.example.edvantistask.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Locates an archived call in cold storage: {@code blockLength} bytes at {@code blockOffset} of {@code fileName}
+ * are a gzip member holding the call among the others archived with it. The call id is assigned, so the entity
+ * reports itself as new until it is loaded and saving it inserts without a lookup first.
+ */
+@Entity
+@Immutable
+@Table(name = "emergency_call_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ArchivedEmergencyCall implements Persistable<Long> {
+
+    @Id
+    @Column(name = "call_id")
+    private Long callId;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "block_offset", nullable = false)
+    private Long blockOffset;
+
+    @Column(name = "block_length", nullable = false)
+    private Integer blockLength;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    @Transient
+    private boolean loaded;
+
+    @Override
+    public Long getId() {
+        return callId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !loaded;
+    }
+
+    @PostLoad
+    void markLoaded() {
+        loaded = true;
+    }
+}
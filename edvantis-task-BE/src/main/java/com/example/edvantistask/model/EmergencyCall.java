@@ -5,9 +5,19 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
-@Table(name = "emergency_calls")
+@Table(name = "emergency_calls", indexes = {
+        @Index(name = "idx_emergency_calls_incident_type_id", columnList = "incident_type, id"),
+        @Index(name = "idx_emergency_calls_status_incident_type", columnList = "status, incident_type"),
+        @Index(name = "idx_emergency_calls_latitude_longitude", columnList = "latitude, longitude"),
+        @Index(name = "idx_emergency_calls_status_created_at", columnList = "status, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,7 +25,8 @@ import lombok.NoArgsConstructor;
 public class EmergencyCall {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "emergency_calls_seq")
+    @SequenceGenerator(name = "emergency_calls_seq", sequenceName = "emergency_calls_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "caller_name", nullable = false)
@@ -31,4 +42,35 @@ public class EmergencyCall {
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private Status status;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Derived from {@link #position} when it holds coordinates, otherwise {@code null}.
+     */
+    private Double latitude;
+
+    private Double longitude;
+
+    /**
+     * The partition key on PostgreSQL, so it never changes after the insert.
+     */
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void locate() {
+        GeoPoint point = GeoPoint.parse(position).orElse(null);
+        latitude = point != null ? point.latitude() : null;
+        longitude = point != null ? point.longitude() : null;
+    }
 }
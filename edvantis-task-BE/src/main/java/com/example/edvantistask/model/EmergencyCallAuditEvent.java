@@ -0,0 +1,90 @@
+package com.example.edvantistask.model;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * One row of the append-only emergency call history. Ids come from a pooled sequence so that rows written in
+ * one transaction are inserted in JDBC batches.
+ */
+@Entity
+@Immutable
+@Table(name = "emergency_call_events", uniqueConstraints =
+        @UniqueConstraint(name = "uk_emergency_call_events_call_id_version", columnNames = {"call_id", "version"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EmergencyCallAuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "emergency_call_events_seq")
+    @SequenceGenerator(name = "emergency_call_events_seq", sequenceName = "emergency_call_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "call_id", nullable = false)
+    private Long callId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EmergencyCallEvent.Type type;
+
+    @Column(name = "caller_name", nullable = false)
+    private String callerName;
+
+    @Column(nullable = false)
+    private String position;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "incident_type", nullable = false)
+    private IncidentType incidentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    private String actor;
+
+    /**
+     * Records the state after {@code event}. A deletion or archival keeps the last state and takes the
+     * {@linkplain EmergencyCallEvent#version() next version}.
+     */
+    public static EmergencyCallAuditEvent of(EmergencyCallEvent event, String actor, Instant occurredAt) {
+        boolean deleted = event.call() == null;
+        EmergencyCallDTO state = deleted ? event.previous() : event.call();
+        GeoPoint point = GeoPoint.parse(state.position()).orElse(null);
+        return EmergencyCallAuditEvent.builder()
+                .callId(state.id())
+                .version(event.version())
+                .type(event.type())
+                .callerName(state.callerName())
+                .position(state.position())
+                .incidentType(state.incidentType())
+                .status(state.status())
+                .latitude(point != null ? point.latitude() : null)
+                .longitude(point != null ? point.longitude() : null)
+                .occurredAt(occurredAt)
+                .actor(actor)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.edvantistask.model;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A WGS84 coordinate in decimal degrees.
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private static final Pattern COORDINATES = Pattern.compile(
+            "^\\s*(?:geo:)?\\s*([-+]?\\d{1,2}(?:\\.\\d+)?)\\s*[,;]\\s*([-+]?\\d{1,3}(?:\\.\\d+)?)\\s*$",
+            Pattern.CASE_INSENSITIVE);
+
+    public GeoPoint {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException(String.format("Coordinates out of range: %s, %s", latitude, longitude));
+        }
+    }
+
+    /**
+     * Reads a position written as {@code "lat, lon"} (optionally as a {@code geo:} URI) in decimal degrees.
+     * Street addresses and out-of-range values give an empty result.
+     */
+    public static Optional<GeoPoint> parse(String position) {
+        if (position == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = COORDINATES.matcher(position);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        double latitude = Double.parseDouble(matcher.group(1));
+        double longitude = Double.parseDouble(matcher.group(2));
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            return Optional.empty();
+        }
+        return Optional.of(new GeoPoint(latitude, longitude));
+    }
+
+    /**
+     * The smallest latitude/longitude box containing every point within {@code radiusMeters}. Near the poles the
+     * box widens to all longitudes; boxes crossing the antimeridian are clipped at ±180.
+     */
+    public Box boxAround(double radiusMeters) {
+        double deltaLatitude = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double minLatitude = Math.max(-90, latitude - deltaLatitude);
+        double maxLatitude = Math.min(90, latitude + deltaLatitude);
+        double widestCos = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        double deltaLongitude = widestCos > 1e-9 ? deltaLatitude / widestCos : 180;
+        return new Box(minLatitude, Math.max(-180, longitude - deltaLongitude),
+                maxLatitude, Math.min(180, longitude + deltaLongitude));
+    }
+
+    /**
+     * Great-circle distance using the haversine formula.
+     */
+    public double distanceMeters(double otherLatitude, double otherLongitude) {
+        double deltaLatitude = Math.toRadians(otherLatitude - latitude);
+        double deltaLongitude = Math.toRadians(otherLongitude - longitude);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(otherLatitude))
+                * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public record Box(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.edvantistask.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "ingest_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestCheckpoint {
+
+    @Id
+    @Column(name = "node_id")
+    private String nodeId;
+
+    @Column(nullable = false)
+    private Long sequence;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
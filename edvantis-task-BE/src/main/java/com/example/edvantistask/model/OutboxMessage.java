@@ -0,0 +1,71 @@
+package com.example.edvantistask.model;
+
+import com.example.edvantistask.event.EmergencyCallEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A committed emergency call change waiting in {@code emergency_call_outbox} to be published. The id is drawn
+ * from a pooled sequence, so it is unique but says nothing about commit order; {@code (callId, version)} orders
+ * the changes of one call and, like the id, can serve consumers as an idempotency key.
+ */
+@Entity
+@Table(name = "emergency_call_outbox", indexes = {
+        @Index(name = "idx_emergency_call_outbox_next_attempt_at", columnList = "next_attempt_at, id"),
+        @Index(name = "idx_emergency_call_outbox_call_id_version", columnList = "call_id, version")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "emergency_call_outbox_seq")
+    @SequenceGenerator(name = "emergency_call_outbox_seq", sequenceName = "emergency_call_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "call_id", nullable = false)
+    private Long callId;
+
+    /** The version the change left the call at, see {@link EmergencyCallEvent#version()}. */
+    @Column(nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EmergencyCallEvent.Type type;
+
+    /** The {@link EmergencyCallEvent} as JSON. */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public static OutboxMessage of(EmergencyCallEvent event, String payload, Instant createdAt) {
+        return OutboxMessage.builder()
+                .callId(event.id())
+                .version(event.version())
+                .type(event.type())
+                .payload(payload)
+                .createdAt(createdAt)
+                .nextAttemptAt(createdAt)
+                .build();
+    }
+}
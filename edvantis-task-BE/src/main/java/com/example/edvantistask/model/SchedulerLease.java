@@ -0,0 +1,28 @@
+package com.example.edvantistask.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "scheduler_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private String holder;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -1,10 +1,12 @@
 package com.example.edvantistask.model;
 
+import com.example.edvantistask.security.UserAccountCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Table(name = "user_accounts")
+@EntityListeners(UserAccountCacheInvalidator.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,15 @@
+package com.example.edvantistask.outbox;
+
+import com.example.edvantistask.model.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Destination of the changes drained from the outbox, in id order per call. Delivery is at least once: a
+ * batch that throws is offered again later, and a batch that was accepted can be offered again if the relay
+ * stops before removing it, so consumers should deduplicate on {@link OutboxMessage#getId()}.
+ */
+public interface EmergencyCallEventSink {
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
@@ -0,0 +1,43 @@
+package com.example.edvantistask.outbox;
+
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.OutboxMessage;
+import com.example.edvantistask.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * Adds every change published by the service to the outbox just before the writing transaction commits, so a
+ * change is published if and only if it is committed, without calling downstream systems on the write path.
+ * Nothing is added while {@code app.outbox.enabled} is off, since no relay would ever drain it.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmergencyCallOutboxWriter {
+
+    private final OutboxMessageRepository repository;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEmergencyCallEvent(EmergencyCallEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        repository.save(OutboxMessage.of(event, serialize(event), Instant.now()));
+    }
+
+    private String serialize(EmergencyCallEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize emergency call event " + event.type() + " " + event.id(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.edvantistask.outbox;
+
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.OutboxMessage;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Appends each batch to a newline-delimited JSON file and forces it to disk before the relay removes the
+ * batch from the outbox.
+ */
+public class FileEventSink implements EmergencyCallEventSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (OutboxMessage message : messages) {
+            objectMapper.writeValue(lines, new Line(message.getId(), message.getCallId(), message.getType(),
+                    message.getCreatedAt(), message.getPayload()));
+            lines.write('\n');
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private record Line(Long id, Long callId, EmergencyCallEvent.Type type, Instant createdAt, @JsonRawValue String event) {}
+}
@@ -0,0 +1,22 @@
+package com.example.edvantistask.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * {@code sink} selects the built-in {@link EmergencyCallEventSink}: {@code memory} or {@code file}. Any other
+ * value expects the application to declare its own sink bean.
+ */
+@ConfigurationProperties(prefix = "app.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("memory") String sink,
+        @DefaultValue("outbox-events.ndjson") Path file,
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1s") Duration initialBackoff,
+        @DefaultValue("5m") Duration maxBackoff
+) {}
@@ -0,0 +1,164 @@
+package com.example.edvantistask.outbox;
+
+import com.example.edvantistask.model.OutboxMessage;
+import com.example.edvantistask.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@code emergency_call_outbox} into the {@link EmergencyCallEventSink} every
+ * {@code app.outbox.poll-interval}.
+ * <p>
+ * Each batch is locked, offered to the sink in one call and deleted in the same transaction. If the sink
+ * rejects it, the batch is offered again call by call so that one failing call does not hold back the others;
+ * the messages of a call that still fails are retried after an exponential backoff, and its later messages
+ * wait behind them. A message is removed only after the sink accepted it, so delivery is at least once.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxMessageRepository repository;
+    private final EmergencyCallEventSink sink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transaction;
+    private final Clock clock;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer publishTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Autowired
+    public OutboxRelay(OutboxMessageRepository repository, EmergencyCallEventSink sink, OutboxProperties properties,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this(repository, sink, properties, transactionManager, meterRegistry, Clock.systemUTC());
+    }
+
+    OutboxRelay(OutboxMessageRepository repository, EmergencyCallEventSink sink, OutboxProperties properties,
+                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, Clock clock) {
+        this.repository = repository;
+        this.sink = sink;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.published = Counter.builder("emergency.call.outbox.published")
+                .description("Outbox messages accepted by the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("emergency.call.outbox.failures")
+                .description("Outbox deliveries rejected by the sink")
+                .register(meterRegistry);
+        this.publishTimer = Timer.builder("emergency.call.outbox.publish")
+                .description("Time spent handing outbox batches to the sink")
+                .register(meterRegistry);
+        Gauge.builder("emergency.call.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox messages not yet delivered")
+                .register(meterRegistry);
+        TimeGauge.builder("emergency.call.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest undelivered outbox message")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Relays full batches until the outbox is drained or a delivery fails, then refreshes the backlog gauges.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:500ms}")
+    public void drain() {
+        if (!properties.enabled()) {
+            return;
+        }
+        Integer delivered;
+        do {
+            delivered = transaction.execute(status -> relayBatch());
+        } while (delivered != null && delivered == properties.batchSize());
+        Instant oldest = repository.findOldestCreatedAt();
+        pending.set(repository.count());
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, clock.instant()).toMillis()));
+    }
+
+    private int relayBatch() {
+        Instant now = clock.instant();
+        List<OutboxMessage> batch = repository.lockDeliverable(now, properties.batchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        if (deliver(batch) == null) {
+            repository.deleteByIds(ids(batch));
+            return batch.size();
+        }
+        List<Long> delivered = new ArrayList<>();
+        for (List<OutboxMessage> messages : byCall(batch)) {
+            Exception failure = deliver(messages);
+            if (failure == null) {
+                delivered.addAll(ids(messages));
+            } else {
+                int attempts = messages.get(0).getAttempts();
+                repository.postpone(ids(messages), now.plus(backoff(attempts)), errorMessage(failure));
+                log.warn("Outbox delivery for emergency call {} failed (attempt {}): {}",
+                        messages.get(0).getCallId(), attempts + 1, failure.toString());
+            }
+        }
+        if (!delivered.isEmpty()) {
+            repository.deleteByIds(delivered);
+        }
+        return delivered.size();
+    }
+
+    /**
+     * Hands {@code messages} to the sink and returns the failure, or {@code null} if they were accepted.
+     */
+    private Exception deliver(List<OutboxMessage> messages) {
+        long started = System.nanoTime();
+        try {
+            sink.publish(messages);
+            published.increment(messages.size());
+            return null;
+        } catch (Exception e) {
+            failures.increment();
+            return e;
+        } finally {
+            publishTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.initialBackoff().multipliedBy(1L << Math.min(attempts, 30));
+        return delay.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : delay;
+    }
+
+    private static Iterable<List<OutboxMessage>> byCall(List<OutboxMessage> batch) {
+        Map<Long, List<OutboxMessage>> messagesByCall = new LinkedHashMap<>();
+        batch.forEach(message -> messagesByCall.computeIfAbsent(message.getCallId(), id -> new ArrayList<>()).add(message));
+        return messagesByCall.values();
+    }
+
+    private static List<Long> ids(List<OutboxMessage> messages) {
+        return messages.stream().map(OutboxMessage::getId).toList();
+    }
+
+    private static String errorMessage(Exception failure) {
+        String message = failure.toString();
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
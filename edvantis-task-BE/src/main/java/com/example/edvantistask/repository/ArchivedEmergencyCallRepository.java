@@ -0,0 +1,19 @@
+package com.example.edvantistask.repository;
+
+import com.example.edvantistask.model.ArchivedEmergencyCall;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Index of the calls in cold storage. Entries are only added; a call stays archived once it has been moved.
+ */
+public interface ArchivedEmergencyCallRepository extends Repository<ArchivedEmergencyCall, Long> {
+
+    List<ArchivedEmergencyCall> saveAll(Iterable<ArchivedEmergencyCall> entries);
+
+    Optional<ArchivedEmergencyCall> findById(Long callId);
+
+    long count();
+}
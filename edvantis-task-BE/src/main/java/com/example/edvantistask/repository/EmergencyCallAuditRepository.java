@@ -0,0 +1,97 @@
+package com.example.edvantistask.repository;
+
+import com.example.edvantistask.dto.EmergencyCallHistoryDTO;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.EmergencyCallAuditEvent;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Only appends and reads; the history has no update or delete methods.
+ */
+public interface EmergencyCallAuditRepository extends Repository<EmergencyCallAuditEvent, Long> {
+
+    EmergencyCallAuditEvent save(EmergencyCallAuditEvent event);
+
+    long count();
+
+    @Query("select new com.example.edvantistask.dto.EmergencyCallHistoryDTO(e.version, e.type, e.callerName, e.position, "
+            + "e.incidentType, e.status, e.occurredAt, e.actor) from EmergencyCallAuditEvent e "
+            + "where e.callId = :callId order by e.version")
+    List<EmergencyCallHistoryDTO> findHistory(@Param("callId") Long callId);
+
+    /**
+     * Latest recorded state of every call that changed after {@code asOf}, unless that state is an archival.
+     */
+    @Query("select e from EmergencyCallAuditEvent e "
+            + "where e.version = (select max(f.version) from EmergencyCallAuditEvent f where f.callId = e.callId) "
+            + "and e.type <> :archived "
+            + "and exists (select g.id from EmergencyCallAuditEvent g where g.callId = e.callId and g.occurredAt > :asOf)")
+    List<EmergencyCallAuditEvent> findLatestOfCallsChangedAfter(@Param("asOf") Instant asOf,
+                                                                @Param("archived") EmergencyCallEvent.Type archived);
+
+    /**
+     * State as of {@code asOf} of every call that changed after it; calls created later have none.
+     */
+    @Query("select e from EmergencyCallAuditEvent e "
+            + "where e.version = (select max(f.version) from EmergencyCallAuditEvent f "
+            + "where f.callId = e.callId and f.occurredAt <= :asOf) "
+            + "and exists (select g.id from EmergencyCallAuditEvent g where g.callId = e.callId and g.occurredAt > :asOf)")
+    List<EmergencyCallAuditEvent> findStateAsOfOfCallsChangedAfter(@Param("asOf") Instant asOf);
+
+    /**
+     * Deletes the rows of calls whose latest recorded change removed them. Calls without history are kept.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            DELETE FROM emergency_calls
+            WHERE id IN (SELECT e.call_id FROM emergency_call_events e
+                         WHERE e.type IN ('DELETED', 'ARCHIVED')
+                           AND e.version = (SELECT MAX(f.version) FROM emergency_call_events f WHERE f.call_id = e.call_id))""")
+    int deleteRemovedCalls();
+
+    /**
+     * Brings every call with history to its latest recorded state in one set-based statement: rows at another
+     * version are overwritten, keeping their creation time, and missing rows are inserted with the time of their
+     * first recorded change. Rows of calls without history are left alone.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            MERGE INTO emergency_calls c
+            USING (SELECT e.call_id, e.caller_name, e.position, e.incident_type, e.status, e.version, e.latitude,
+                          e.longitude, e.occurred_at, latest.created_at
+                   FROM emergency_call_events e
+                   JOIN (SELECT call_id, MAX(version) AS version, MIN(occurred_at) AS created_at
+                         FROM emergency_call_events
+                         GROUP BY call_id) latest ON latest.call_id = e.call_id AND latest.version = e.version
+                   WHERE e.type NOT IN ('DELETED', 'ARCHIVED')
+                     AND NOT EXISTS (SELECT 1 FROM emergency_call_archive a WHERE a.call_id = e.call_id)) s
+            ON c.id = s.call_id
+            WHEN MATCHED AND c.version <> s.version THEN
+                UPDATE SET caller_name = s.caller_name, position = s.position, incident_type = s.incident_type,
+                           status = s.status, version = s.version, latitude = s.latitude, longitude = s.longitude,
+                           updated_at = s.occurred_at
+            WHEN NOT MATCHED THEN
+                INSERT (id, caller_name, position, incident_type, status, version, latitude, longitude, created_at, updated_at)
+                VALUES (s.call_id, s.caller_name, s.position, s.incident_type, s.status, s.version, s.latitude,
+                        s.longitude, s.created_at, s.occurred_at)""")
+    int mergeLatestStates();
+
+    /**
+     * Inserts the state recorded as {@code version} of call {@code callId} as its new version {@code asVersion}.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO emergency_calls (id, caller_name, position, incident_type, status, version, latitude, longitude,
+                                         created_at, updated_at)
+            SELECT e.call_id, e.caller_name, e.position, e.incident_type, e.status, :asVersion, e.latitude, e.longitude,
+                   (SELECT MIN(f.occurred_at) FROM emergency_call_events f WHERE f.call_id = e.call_id), CURRENT_TIMESTAMP
+            FROM emergency_call_events e
+            WHERE e.call_id = :callId AND e.version = :version""")
+    int reinsertVersion(@Param("callId") Long callId, @Param("version") Long version, @Param("asVersion") Long asVersion);
+}
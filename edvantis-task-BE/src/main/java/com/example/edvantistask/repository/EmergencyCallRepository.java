@@ -1,11 +1,165 @@
 package com.example.edvantistask.repository;
 
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.dto.EmergencyCallVersion;
+import com.example.edvantistask.dto.IncidentBucketCount;
+import com.example.edvantistask.dto.IncidentStatusCount;
+import com.example.edvantistask.dto.LocatedEmergencyCall;
 import com.example.edvantistask.model.EmergencyCall;
 import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface EmergencyCallRepository extends JpaRepository<EmergencyCall, Long> {
-    Page<EmergencyCall> findByIncidentType(IncidentType incidentType, Pageable pageable);
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Read paths select straight into {@link EmergencyCallDTO} with constructor expressions, so listing never
+ * puts managed entities (and their dirty-checking snapshots) into the persistence context. Entities are only
+ * loaded where they are modified. The listing pages are read-only transactions of their own, so callers
+ * outside a transaction still read them, with their counts, from a replica.
+ */
+public interface EmergencyCallRepository extends JpaRepository<EmergencyCall, Long>, EmergencyCallSearchRepository {
+
+    String SELECT_DTO = "select new com.example.edvantistask.dto.EmergencyCallDTO("
+            + "c.id, c.callerName, c.position, c.incidentType, c.status, c.version) from EmergencyCall c ";
+
+    @Query(value = SELECT_DTO + "where c.id = :id")
+    Optional<EmergencyCallDTO> findDtoById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query(value = SELECT_DTO, countQuery = "select count(c) from EmergencyCall c")
+    Page<EmergencyCallDTO> findAllDtos(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(value = SELECT_DTO + "where c.incidentType = :incidentType",
+            countQuery = "select count(c) from EmergencyCall c where c.incidentType = :incidentType")
+    Page<EmergencyCallDTO> findDtosByIncidentType(@Param("incidentType") IncidentType incidentType, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(value = SELECT_DTO + "where c.status = :status",
+            countQuery = "select count(c) from EmergencyCall c where c.status = :status")
+    Page<EmergencyCallDTO> findDtosByStatus(@Param("status") Status status, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(value = SELECT_DTO + "where c.incidentType = :incidentType and c.status = :status",
+            countQuery = "select count(c) from EmergencyCall c where c.incidentType = :incidentType and c.status = :status")
+    Page<EmergencyCallDTO> findDtosByIncidentTypeAndStatus(@Param("incidentType") IncidentType incidentType,
+                                                           @Param("status") Status status,
+                                                           Pageable pageable);
+
+    /**
+     * Bounded by {@code created_at}, which PostgreSQL partitions the table by, so only the partitions of the
+     * requested months are scanned.
+     */
+    @Query(value = SELECT_DTO + "where c.createdAt >= :from and c.createdAt < :to "
+            + "and (:incidentType is null or c.incidentType = :incidentType) and (:status is null or c.status = :status)",
+            countQuery = "select count(c) from EmergencyCall c where c.createdAt >= :from and c.createdAt < :to "
+                    + "and (:incidentType is null or c.incidentType = :incidentType) and (:status is null or c.status = :status)")
+    Page<EmergencyCallDTO> findDtosCreatedBetween(@Param("from") Instant from,
+                                                  @Param("to") Instant to,
+                                                  @Param("incidentType") IncidentType incidentType,
+                                                  @Param("status") Status status,
+                                                  Pageable pageable);
+
+    /**
+     * Calls in {@code status} that were created and last changed before {@code cutoff}, oldest first, locked until
+     * the archiving transaction ends. The {@code created_at} bound keeps later partitions out of the scan.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from EmergencyCall c where c.status = :status and c.createdAt < :cutoff and c.updatedAt < :cutoff "
+            + "order by c.createdAt, c.id")
+    List<EmergencyCall> findArchivable(@Param("status") Status status, @Param("cutoff") Instant cutoff, Pageable pageable);
+
+    @Query(SELECT_DTO + "where c.status = :status order by c.id")
+    List<EmergencyCallDTO> findAllDtosByStatus(@Param("status") Status status);
+
+    @Query(SELECT_DTO + "where c.id > :afterId order by c.id")
+    Slice<EmergencyCallDTO> findDtosAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(SELECT_DTO + "where c.incidentType = :incidentType and c.id > :afterId order by c.id")
+    Slice<EmergencyCallDTO> findDtosByIncidentTypeAfter(@Param("incidentType") IncidentType incidentType,
+                                                        @Param("afterId") Long afterId,
+                                                        Pageable pageable);
+
+    @Query(SELECT_DTO + "where c.id > :afterId and c.createdAt >= :from and c.createdAt < :to "
+            + "and (:incidentType is null or c.incidentType = :incidentType) and (:status is null or c.status = :status) "
+            + "order by c.id")
+    Slice<EmergencyCallDTO> findDtosCreatedBetweenAfter(@Param("from") Instant from,
+                                                        @Param("to") Instant to,
+                                                        @Param("incidentType") IncidentType incidentType,
+                                                        @Param("status") Status status,
+                                                        @Param("afterId") Long afterId,
+                                                        Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_DTO + "where :incidentType is null or c.incidentType = :incidentType order by c.id")
+    Stream<EmergencyCallDTO> streamAllDtos(@Param("incidentType") IncidentType incidentType);
+
+    @Query("select new com.example.edvantistask.dto.IncidentStatusCount(c.incidentType, c.status, count(c)) "
+            + "from EmergencyCall c group by c.incidentType, c.status")
+    List<IncidentStatusCount> countByIncidentTypeAndStatus();
+
+    @Query(nativeQuery = true, value = """
+            SELECT t.incident_type AS incidentType, t.bucket AS bucket, COUNT(*) AS created
+            FROM (SELECT incident_type, CAST(FLOOR(EXTRACT(EPOCH FROM created_at) * 1000 / :bucketMillis) AS BIGINT) AS bucket
+                  FROM emergency_calls
+                  WHERE created_at >= :from) t
+            GROUP BY t.incident_type, t.bucket""")
+    List<IncidentBucketCount> countCreatedPerBucketSince(@Param("from") Instant from, @Param("bucketMillis") long bucketMillis);
+
+    @Query("select c.id as id, c.version as version from EmergencyCall c where c.id in :ids")
+    List<EmergencyCallVersion> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    String LOCATED_WITHIN = "select new com.example.edvantistask.dto.LocatedEmergencyCall(c.id, c.callerName, c.position, "
+            + "c.incidentType, c.status, c.version, c.latitude, c.longitude) from EmergencyCall c "
+            + "where c.latitude between :minLatitude and :maxLatitude "
+            + "and c.longitude between :minLongitude and :maxLongitude "
+            + "and (:incidentType is null or c.incidentType = :incidentType) "
+            + "and (:status is null or c.status = :status) ";
+
+    /**
+     * The calls in the box closest to {@code latitude}/{@code longitude}, by a flat-earth distance in which
+     * longitude differences are weighted with {@code longitudeScale} (cos² of the latitude). Within the
+     * 100 km the service searches this ranks calls like the great-circle distance, so the database sorts and
+     * returns only the page.
+     */
+    @Query(LOCATED_WITHIN + "order by (c.latitude - :latitude) * (c.latitude - :latitude) "
+            + "+ (c.longitude - :longitude) * (c.longitude - :longitude) * :longitudeScale, c.id")
+    List<LocatedEmergencyCall> findNearestLocatedWithin(@Param("minLatitude") double minLatitude,
+                                                        @Param("minLongitude") double minLongitude,
+                                                        @Param("maxLatitude") double maxLatitude,
+                                                        @Param("maxLongitude") double maxLongitude,
+                                                        @Param("latitude") double latitude,
+                                                        @Param("longitude") double longitude,
+                                                        @Param("longitudeScale") double longitudeScale,
+                                                        @Param("incidentType") IncidentType incidentType,
+                                                        @Param("status") Status status,
+                                                        Pageable pageable);
+
+    @Query(LOCATED_WITHIN + "order by c.id")
+    List<LocatedEmergencyCall> findLocatedWithin(@Param("minLatitude") double minLatitude,
+                                                 @Param("minLongitude") double minLongitude,
+                                                 @Param("maxLatitude") double maxLatitude,
+                                                 @Param("maxLongitude") double maxLongitude,
+                                                 @Param("incidentType") IncidentType incidentType,
+                                                 @Param("status") Status status,
+                                                 Pageable pageable);
 }
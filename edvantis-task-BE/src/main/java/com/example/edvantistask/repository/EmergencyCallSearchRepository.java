@@ -0,0 +1,17 @@
+package com.example.edvantistask.repository;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+
+import java.util.List;
+
+public interface EmergencyCallSearchRepository {
+
+    /**
+     * Returns up to {@code limit} calls whose caller name or position contains a word starting with each of the
+     * given terms, most relevant first. Caller name matches rank above position matches. The terms must be
+     * lower-case letters and digits only.
+     */
+    List<EmergencyCallDTO> search(List<String> terms, IncidentType incidentType, Status status, int limit);
+}
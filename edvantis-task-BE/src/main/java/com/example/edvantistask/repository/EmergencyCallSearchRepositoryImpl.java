@@ -0,0 +1,95 @@
+package com.example.edvantistask.repository;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * On PostgreSQL, searches the GIN-indexed {@code search_vector} column with a prefix {@code tsquery} and ranks
+ * matches with {@code ts_rank}. Other databases (H2 in tests) have no full-text index, so they fall back to
+ * {@code LIKE} on word starts with an equivalent weighting.
+ */
+public class EmergencyCallSearchRepositoryImpl implements EmergencyCallSearchRepository {
+
+    private static final String COLUMNS = "id, caller_name, position, incident_type, status, version";
+    private static final RowMapper<EmergencyCallDTO> ROW_MAPPER = (rs, rowNum) -> new EmergencyCallDTO(
+            rs.getLong("id"),
+            rs.getString("caller_name"),
+            rs.getString("position"),
+            IncidentType.valueOf(rs.getString("incident_type")),
+            Status.valueOf(rs.getString("status")),
+            rs.getLong("version"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean fullTextIndex;
+
+    public EmergencyCallSearchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fullTextIndex = isPostgres(dataSource);
+    }
+
+    @Override
+    public List<EmergencyCallDTO> search(List<String> terms, IncidentType incidentType, Status status, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        StringBuilder filters = new StringBuilder();
+        if (incidentType != null) {
+            filters.append(" AND incident_type = :incidentType");
+            parameters.addValue("incidentType", incidentType.name());
+        }
+        if (status != null) {
+            filters.append(" AND status = :status");
+            parameters.addValue("status", status.name());
+        }
+        String sql = fullTextIndex ? fullTextQuery(terms, filters, parameters) : likeQuery(terms, filters, parameters);
+        return jdbcTemplate.query(sql, parameters, ROW_MAPPER);
+    }
+
+    private static String fullTextQuery(List<String> terms, StringBuilder filters, MapSqlParameterSource parameters) {
+        parameters.addValue("query", terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & ")));
+        return "SELECT " + COLUMNS + " FROM emergency_calls"
+                + " WHERE search_vector @@ to_tsquery('simple', :query)" + filters
+                + " ORDER BY ts_rank(search_vector, to_tsquery('simple', :query)) DESC, id"
+                + " LIMIT :limit";
+    }
+
+    private static String likeQuery(List<String> terms, StringBuilder filters, MapSqlParameterSource parameters) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        StringBuilder rank = new StringBuilder("0");
+        for (int i = 0; i < terms.size(); i++) {
+            String name = wordStart("caller_name", i);
+            String position = wordStart("position", i);
+            where.append(" AND (").append(name).append(" OR ").append(position).append(')');
+            rank.append(" + CASE WHEN ").append(name).append(" THEN 2 ELSE 0 END")
+                    .append(" + CASE WHEN ").append(position).append(" THEN 1 ELSE 0 END");
+            parameters.addValue("prefix" + i, terms.get(i) + "%");
+            parameters.addValue("wordPrefix" + i, "% " + terms.get(i) + "%");
+        }
+        return "SELECT " + COLUMNS + " FROM emergency_calls" + where + filters
+                + " ORDER BY " + rank + " DESC, id"
+                + " LIMIT :limit";
+    }
+
+    private static String wordStart(String column, int index) {
+        return String.format("(LOWER(%1$s) LIKE :prefix%2$d OR LOWER(%1$s) LIKE :wordPrefix%2$d)", column, index);
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName) == DatabaseDriver.POSTGRESQL;
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.edvantistask.repository;
+
+import com.example.edvantistask.model.IngestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface IngestCheckpointRepository extends JpaRepository<IngestCheckpoint, String> {
+
+    @Modifying
+    @Query("update IngestCheckpoint c set c.sequence = :sequence, c.updatedAt = :updatedAt "
+            + "where c.nodeId = :nodeId and c.sequence < :sequence")
+    int advance(@Param("nodeId") String nodeId, @Param("sequence") long sequence, @Param("updatedAt") Instant updatedAt);
+}
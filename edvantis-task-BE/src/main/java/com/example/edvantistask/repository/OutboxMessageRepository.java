@@ -0,0 +1,47 @@
+package com.example.edvantistask.repository;
+
+import com.example.edvantistask.model.OutboxMessage;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxMessageRepository extends Repository<OutboxMessage, Long> {
+
+    OutboxMessage save(OutboxMessage message);
+
+    long count();
+
+    /**
+     * Locks the oldest messages that are due. A message is skipped while a lower version of the same call is
+     * waiting for a retry or sorts after it (possible when instances' clocks drift), so a call's changes always
+     * come out in version order whatever instance committed them. Relays on other instances wait for the lock
+     * and then see the delivered rows gone.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT o.* FROM emergency_call_outbox o
+            WHERE o.next_attempt_at <= :now
+              AND NOT EXISTS (SELECT 1 FROM emergency_call_outbox b
+                              WHERE b.call_id = o.call_id AND b.version < o.version
+                                AND (b.next_attempt_at > :now OR b.created_at > o.created_at))
+            ORDER BY o.created_at, o.call_id, o.version
+            LIMIT :limit
+            FOR UPDATE""")
+    List<OutboxMessage> lockDeliverable(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from OutboxMessage m where m.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update OutboxMessage m set m.attempts = m.attempts + 1, m.nextAttemptAt = :nextAttemptAt, m.lastError = :error "
+            + "where m.id in :ids")
+    int postpone(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+
+    @Query("select min(m.createdAt) from OutboxMessage m")
+    Instant findOldestCreatedAt();
+}
@@ -0,0 +1,30 @@
+package com.example.edvantistask.repository;
+
+import com.example.edvantistask.model.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+/**
+ * Leases of the scheduled jobs that only one instance may run at a time. Both updates lock the lease row until
+ * the surrounding transaction ends, so work done in that transaction is never interleaved with another holder's.
+ */
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * Takes or extends lease {@code name} for {@code holder} until {@code expiresAt}, unless another holder's lease
+     * is still running at {@code now}. Returns 1 if {@code holder} holds the lease afterwards.
+     */
+    @Modifying
+    @Query("update SchedulerLease l set l.holder = :holder, l.expiresAt = :expiresAt "
+            + "where l.name = :name and (l.holder = :holder or l.expiresAt <= :now)")
+    int acquire(@Param("name") String name, @Param("holder") String holder, @Param("now") Instant now,
+                @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("update SchedulerLease l set l.expiresAt = :now where l.name = :name and l.holder = :holder")
+    int release(@Param("name") String name, @Param("holder") String holder, @Param("now") Instant now);
+}
@@ -0,0 +1,13 @@
+package com.example.edvantistask.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.security.auth-cache")
+public record AuthCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue("10000") long maxSize
+) {}
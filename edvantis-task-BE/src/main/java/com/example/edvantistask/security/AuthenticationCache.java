@@ -0,0 +1,93 @@
+package com.example.edvantistask.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, TTL-evicting cache of credentials that already passed a full password check.
+ * Entries are keyed on a salted SHA-256 of username and password, so neither value is kept in memory;
+ * the salt is random per process and never leaves it.
+ */
+@Component
+public class AuthenticationCache {
+
+    private final AuthCacheProperties properties;
+    private final Cache<String, VerifiedCredentials> cache;
+    private final byte[] salt = new byte[32];
+    private final Timer verificationTimer;
+    private final Counter timeSaved;
+
+    public AuthenticationCache(AuthCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        new SecureRandom().nextBytes(salt);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.credentials");
+        this.verificationTimer = Timer.builder("auth.password.verification")
+                .description("Time spent on full password verification for cache misses")
+                .register(meterRegistry);
+        this.timeSaved = Counter.builder("auth.cache.time.saved")
+                .description("Estimated password verification time avoided by cache hits")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public Optional<VerifiedCredentials> get(String username, String password) {
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+        VerifiedCredentials credentials = cache.getIfPresent(key(username, password));
+        if (credentials != null) {
+            timeSaved.increment(verificationTimer.mean(TimeUnit.NANOSECONDS) / 1_000_000_000d);
+        }
+        return Optional.ofNullable(credentials);
+    }
+
+    public void put(String username, String password, Collection<? extends GrantedAuthority> authorities) {
+        if (properties.enabled()) {
+            cache.put(key(username, password), new VerifiedCredentials(username, List.copyOf(authorities)));
+        }
+    }
+
+    public void recordVerification(long nanos) {
+        verificationTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private String key(String username, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            digest.update(username.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record VerifiedCredentials(String username, List<GrantedAuthority> authorities) {}
+}
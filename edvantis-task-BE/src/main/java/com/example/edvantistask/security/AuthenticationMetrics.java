@@ -0,0 +1,34 @@
+package com.example.edvantistask.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records {@code auth.authentications}, timed per request and tagged with the {@code method}
+ * ({@code password} or {@code token}) and the {@code result} ({@code success} or {@code failure}).
+ */
+@Component
+public class AuthenticationMetrics {
+
+    static final String PASSWORD = "password";
+    static final String TOKEN = "token";
+
+    private final MeterRegistry meterRegistry;
+
+    public AuthenticationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String method, boolean success) {
+        sample.stop(Timer.builder("auth.authentications")
+                .description("Authentication attempts and the time spent verifying them")
+                .tag("method", method)
+                .tag("result", success ? "success" : "failure")
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.edvantistask.security;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * Short-circuits the user lookup and BCrypt check for credentials verified recently.
+ * Only successful authentications are cached; failures always go through the delegate.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final AuthenticationCache cache;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, AuthenticationCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (username == null || !(credentials instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        var cached = cache.get(username, password);
+        if (cached.isPresent()) {
+            var verified = cached.get();
+            User principal = new User(verified.username(), "", verified.authorities());
+            return UsernamePasswordAuthenticationToken.authenticated(principal, password, verified.authorities());
+        }
+
+        long start = System.nanoTime();
+        Authentication result = delegate.authenticate(authentication);
+        cache.recordVerification(System.nanoTime() - start);
+        if (result != null && result.isAuthenticated()) {
+            cache.put(username, password, result.getAuthorities());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.edvantistask.security;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Times every username/password authentication, whether it comes from HTTP Basic or {@code /api/login}.
+ */
+public class MeteredAuthenticationManager implements AuthenticationManager {
+
+    private final AuthenticationManager delegate;
+    private final AuthenticationMetrics metrics;
+
+    public MeteredAuthenticationManager(AuthenticationManager delegate, AuthenticationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        Timer.Sample sample = metrics.start();
+        boolean success = false;
+        try {
+            Authentication result = delegate.authenticate(authentication);
+            success = result != null && result.isAuthenticated();
+            return result;
+        } finally {
+            metrics.stop(sample, AuthenticationMetrics.PASSWORD, success);
+        }
+    }
+}
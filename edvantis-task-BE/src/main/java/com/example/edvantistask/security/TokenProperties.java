@@ -0,0 +1,12 @@
+package com.example.edvantistask.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.security.token")
+public record TokenProperties(
+        String secret,
+        @DefaultValue("15m") Duration ttl
+) {}
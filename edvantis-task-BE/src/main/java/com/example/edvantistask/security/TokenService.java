@@ -0,0 +1,118 @@
+package com.example.edvantistask.security;
+
+import com.example.edvantistask.dto.TokenResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed bearer tokens of the form {@code base64url(payload).base64url(signature)},
+ * where the payload is {@code expiresAtEpochSecond|role[,role]|username}. Verification is pure CPU work:
+ * no database access and no password hashing.
+ */
+@Slf4j
+@Service
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final TokenProperties properties;
+    private final SecretKeySpec key;
+
+    public TokenService(TokenProperties properties) {
+        this.properties = properties;
+        this.key = new SecretKeySpec(secret(properties), ALGORITHM);
+    }
+
+    public TokenResponse issue(Authentication authentication) {
+        Instant expiresAt = Instant.now().plus(properties.ttl());
+        String roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        String payload = expiresAt.getEpochSecond() + "|" + roles + "|" + authentication.getName();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        String token = ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+        return new TokenResponse(token, "Bearer", expiresAt);
+    }
+
+    public Optional<Authentication> verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            return Optional.empty();
+        }
+        byte[] payloadBytes;
+        byte[] signature;
+        try {
+            payloadBytes = DECODER.decode(token.substring(0, separator));
+            signature = DECODER.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+            return Optional.empty();
+        }
+
+        String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || parts[2].isEmpty()) {
+            return Optional.empty();
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(parts[0]);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (Instant.now().getEpochSecond() >= expiresAt) {
+            return Optional.empty();
+        }
+        return Optional.of(UsernamePasswordAuthenticationToken.authenticated(parts[2], null, authorities(parts[1])));
+    }
+
+    private Collection<? extends GrantedAuthority> authorities(String roles) {
+        if (roles.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(roles.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to sign token", e);
+        }
+    }
+
+    private static byte[] secret(TokenProperties properties) {
+        if (properties.secret() != null && !properties.secret().isBlank()) {
+            return Base64.getDecoder().decode(properties.secret());
+        }
+        log.warn("No app.security.token.secret configured, using a random per-process key; tokens will not survive restarts or be accepted by other nodes");
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.edvantistask.security;
+
+import com.example.edvantistask.model.UserAccount;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener that drops cached credentials whenever a {@link UserAccount} is modified or removed,
+ * so password and role changes take effect on the next request. Bulk JPQL updates bypass it.
+ */
+@Component
+public class UserAccountCacheInvalidator {
+
+    private final ObjectProvider<AuthenticationCache> authenticationCache;
+
+    public UserAccountCacheInvalidator(ObjectProvider<AuthenticationCache> authenticationCache) {
+        this.authenticationCache = authenticationCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(UserAccount account) {
+        authenticationCache.ifAvailable(AuthenticationCache::invalidateAll);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.edvantistask.service;
+
+import com.example.edvantistask.dto.ArchivedEmergencyCallDTO;
+
+public interface EmergencyCallArchiveService {
+    ArchivedEmergencyCallDTO getArchivedEmergencyCall(Long id);
+}
@@ -0,0 +1,34 @@
+package com.example.edvantistask.service;
+
+import com.example.edvantistask.archive.EmergencyCallArchiveFiles;
+import com.example.edvantistask.dto.ArchivedEmergencyCallDTO;
+import com.example.edvantistask.exception.ResourceNotFoundException;
+import com.example.edvantistask.model.ArchivedEmergencyCall;
+import com.example.edvantistask.repository.ArchivedEmergencyCallRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "emergency.call.service", description = "Emergency call service operations")
+public class EmergencyCallArchiveServiceImpl implements EmergencyCallArchiveService {
+
+    private final ArchivedEmergencyCallRepository archiveRepository;
+    private final EmergencyCallArchiveFiles files;
+
+    /**
+     * Looks the call up in the archive index and decompresses only the block that holds it. Not transactional,
+     * so no connection is held while the file is read.
+     */
+    @Override
+    public ArchivedEmergencyCallDTO getArchivedEmergencyCall(Long id) {
+        ArchivedEmergencyCall entry = archiveRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Archived Emergency Call not found with id: %d", id)));
+        EmergencyCallArchiveFiles.Block block =
+                new EmergencyCallArchiveFiles.Block(entry.getFileName(), entry.getBlockOffset(), entry.getBlockLength());
+        return files.read(block, id)
+                .orElseThrow(() -> new IllegalStateException(String.format("Archive file %s does not hold emergency call %d",
+                        entry.getFileName(), id)));
+    }
+}
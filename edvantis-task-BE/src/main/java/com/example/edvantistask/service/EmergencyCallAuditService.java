@@ -0,0 +1,12 @@
+package com.example.edvantistask.service;
+
+import com.example.edvantistask.dto.EmergencyCallHistoryDTO;
+import com.example.edvantistask.dto.EmergencyCallReplayResult;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EmergencyCallAuditService {
+    List<EmergencyCallHistoryDTO> getHistory(Long id);
+    EmergencyCallReplayResult replay(Instant asOf);
+}
@@ -0,0 +1,129 @@
+package com.example.edvantistask.service;
+
+import com.example.edvantistask.config.CacheConfig;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.dto.EmergencyCallHistoryDTO;
+import com.example.edvantistask.dto.EmergencyCallReplayResult;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.exception.ResourceNotFoundException;
+import com.example.edvantistask.model.EmergencyCall;
+import com.example.edvantistask.model.EmergencyCallAuditEvent;
+import com.example.edvantistask.repository.EmergencyCallAuditRepository;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = "emergency.call.service", description = "Emergency call service operations")
+public class EmergencyCallAuditServiceImpl implements EmergencyCallAuditService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final EmergencyCallAuditRepository auditRepository;
+    private final EmergencyCallRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Calls created before the event log existed have an empty history; unknown ids are reported as not found.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmergencyCallHistoryDTO> getHistory(Long id) {
+        List<EmergencyCallHistoryDTO> history = auditRepository.findHistory(id);
+        if (history.isEmpty() && !repository.existsById(id)) {
+            throw new ResourceNotFoundException(String.format("Emergency Call not found with id: %d", id));
+        }
+        return history;
+    }
+
+    /**
+     * First brings the table in line with the log using set-based statements: every call with history gets its
+     * latest recorded state unless that state is a deletion or an archival. Rows of calls without history, such as
+     * those created before the log existed, are kept. With {@code asOf} in the past, every call changed since is
+     * then reverted through an ordinary change on top of its latest version (an update, a re-creation or a
+     * deletion), so the log records the revert and later writes continue from version numbers it has not used.
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMERGENCY_CALLS_CACHE, allEntries = true)
+    public EmergencyCallReplayResult replay(Instant asOf) {
+        Instant now = Instant.now();
+        Instant until = asOf != null && asOf.isBefore(now) ? asOf : now;
+        long started = System.nanoTime();
+        int removed = auditRepository.deleteRemovedCalls();
+        int restored = auditRepository.mergeLatestStates();
+        int reverted = until.isBefore(now) ? revertChangesAfter(until) : 0;
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Replayed emergency call events as of {}: removed {} calls, restored {}, reverted {} in {} ms",
+                until, removed, restored, reverted, elapsedMillis);
+        return new EmergencyCallReplayResult(until, removed, restored, reverted, elapsedMillis);
+    }
+
+    /**
+     * Loads the calls changed after {@code asOf}, so it is meant for recent points in time.
+     */
+    private int revertChangesAfter(Instant asOf) {
+        List<EmergencyCallAuditEvent> latest =
+                auditRepository.findLatestOfCallsChangedAfter(asOf, EmergencyCallEvent.Type.ARCHIVED);
+        Map<Long, EmergencyCallAuditEvent> targets = auditRepository.findStateAsOfOfCallsChangedAfter(asOf).stream()
+                .collect(Collectors.toMap(EmergencyCallAuditEvent::getCallId, Function.identity()));
+        Map<Long, EmergencyCall> rows = new HashMap<>();
+        List<Long> ids = latest.stream().map(EmergencyCallAuditEvent::getCallId).toList();
+        for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+            repository.findAllById(ids.subList(from, Math.min(ids.size(), from + LOAD_BATCH_SIZE)))
+                    .forEach(row -> rows.put(row.getId(), row));
+        }
+
+        List<EmergencyCallEvent> changes = new ArrayList<>();
+        Map<Long, EmergencyCallDTO> updated = new LinkedHashMap<>();
+        for (EmergencyCallAuditEvent head : latest) {
+            EmergencyCallAuditEvent target = targets.get(head.getCallId());
+            boolean targetExists = target != null && target.getType() != EmergencyCallEvent.Type.DELETED;
+            EmergencyCall row = rows.get(head.getCallId());
+            if (row != null && targetExists) {
+                if (!sameState(row, target)) {
+                    updated.put(row.getId(), EmergencyCallDTO.fromEntity(row));
+                    row.setCallerName(target.getCallerName());
+                    row.setPosition(target.getPosition());
+                    row.setIncidentType(target.getIncidentType());
+                    row.setStatus(target.getStatus());
+                }
+            } else if (row != null) {
+                repository.delete(row);
+                changes.add(EmergencyCallEvent.deleted(EmergencyCallDTO.fromEntity(row)));
+            } else if (targetExists) {
+                long version = head.getVersion() + 1;
+                auditRepository.reinsertVersion(target.getCallId(), target.getVersion(), version);
+                changes.add(EmergencyCallEvent.created(new EmergencyCallDTO(target.getCallId(), target.getCallerName(),
+                        target.getPosition(), target.getIncidentType(), target.getStatus(), version)));
+            }
+        }
+        repository.flush();
+        updated.forEach((id, previous) -> changes.add(EmergencyCallEvent.updated(EmergencyCallDTO.fromEntity(rows.get(id)), previous)));
+        changes.forEach(eventPublisher::publishEvent);
+        return changes.size();
+    }
+
+    private static boolean sameState(EmergencyCall row, EmergencyCallAuditEvent state) {
+        return row.getCallerName().equals(state.getCallerName())
+                && row.getPosition().equals(state.getPosition())
+                && row.getIncidentType() == state.getIncidentType()
+                && row.getStatus() == state.getStatus();
+    }
+}
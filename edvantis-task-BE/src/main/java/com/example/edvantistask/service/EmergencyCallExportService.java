@@ -0,0 +1,90 @@
+package com.example.edvantistask.service;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Writes emergency calls straight from a forward-only database cursor to an output stream.
+ * Rows are read as DTO projections that never enter the persistence context, so heap usage does not grow
+ * with the size of the export.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmergencyCallExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,callerName,position,incidentType,status\n";
+
+    private final EmergencyCallRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(IncidentType incidentType, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (Stream<EmergencyCallDTO> calls = repository.streamAllDtos(incidentType)) {
+            switch (format) {
+                case NDJSON -> writeNdjson(calls, writer);
+                case CSV -> writeCsv(calls, writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Stream<EmergencyCallDTO> calls, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        calls.forEach(call -> {
+            try {
+                objectMapper.writeValue(generator, call);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+    }
+
+    private void writeCsv(Stream<EmergencyCallDTO> calls, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        calls.forEach(dto -> {
+            try {
+                writer.write(String.valueOf(dto.id()));
+                writer.write(',');
+                writer.write(csvField(dto.callerName()));
+                writer.write(',');
+                writer.write(csvField(dto.position()));
+                writer.write(',');
+                writer.write(dto.incidentType().name());
+                writer.write(',');
+                writer.write(dto.status().name());
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
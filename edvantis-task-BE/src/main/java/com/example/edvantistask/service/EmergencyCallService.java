@@ -1,16 +1,35 @@
 package com.example.edvantistask.service;
 
+import com.example.edvantistask.command.EmergencyCallBatchDeleteCommand;
+import com.example.edvantistask.command.EmergencyCallBatchUpdateCommand;
 import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.dto.BatchItemResult;
+import com.example.edvantistask.dto.CursorPage;
+import com.example.edvantistask.dto.EmergencyCallDistanceDTO;
 import com.example.edvantistask.dto.EmergencyCallDTO;
 import com.example.edvantistask.command.EmergencyCallUpdateCommand;
 import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
 public interface EmergencyCallService {
     EmergencyCallDTO createEmergencyCall(EmergencyCallCreateCommand command);
-    EmergencyCallDTO updateEmergencyCall(Long id, EmergencyCallUpdateCommand command);
-    void deleteEmergencyCall(Long id);
+    EmergencyCallDTO updateEmergencyCall(Long id, EmergencyCallUpdateCommand command, Set<Long> expectedVersions);
+    void deleteEmergencyCall(Long id, Set<Long> expectedVersions);
     EmergencyCallDTO getEmergencyCall(Long id);
-    Page<EmergencyCallDTO> getAllEmergencyCalls(IncidentType incidentType, Pageable pageable);
+    Page<EmergencyCallDTO> getAllEmergencyCalls(IncidentType incidentType, Status status, Pageable pageable);
+    Page<EmergencyCallDTO> getEmergencyCallsCreatedBetween(Instant from, Instant to, IncidentType incidentType, Status status, Pageable pageable);
+    CursorPage<EmergencyCallDTO> getEmergencyCallsAfter(IncidentType incidentType, Status status, Instant from, Instant to, String cursor, int limit);
+    List<EmergencyCallDTO> searchEmergencyCalls(String query, IncidentType incidentType, Status status, int limit);
+    List<EmergencyCallDistanceDTO> findNearestEmergencyCalls(double latitude, double longitude, int count, IncidentType incidentType, Status status);
+    List<EmergencyCallDistanceDTO> findEmergencyCallsWithinRadius(double latitude, double longitude, double radiusMeters, IncidentType incidentType, Status status, int limit);
+    List<EmergencyCallDTO> findEmergencyCallsWithinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, IncidentType incidentType, Status status, int limit);
+    List<BatchItemResult> createEmergencyCalls(List<EmergencyCallCreateCommand> commands);
+    List<BatchItemResult> updateEmergencyCalls(List<EmergencyCallBatchUpdateCommand> commands);
+    List<BatchItemResult> deleteEmergencyCalls(List<EmergencyCallBatchDeleteCommand> commands);
 }
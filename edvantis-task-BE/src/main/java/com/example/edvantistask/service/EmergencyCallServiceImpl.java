@@ -1,69 +1,448 @@
 package com.example.edvantistask.service;
 
+import com.example.edvantistask.command.EmergencyCallBatchDeleteCommand;
+import com.example.edvantistask.command.EmergencyCallBatchUpdateCommand;
 import com.example.edvantistask.command.EmergencyCallCreateCommand;
 import com.example.edvantistask.command.EmergencyCallUpdateCommand;
+import com.example.edvantistask.config.CacheConfig;
+import com.example.edvantistask.datasource.ReadWriteRoutingDataSource;
+import com.example.edvantistask.dto.BatchItemResult;
+import com.example.edvantistask.dto.BatchItemResult.Outcome;
+import com.example.edvantistask.dto.CursorPage;
+import com.example.edvantistask.dto.EmergencyCallDistanceDTO;
 import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.dto.LocatedEmergencyCall;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.exception.InvalidRequestException;
+import com.example.edvantistask.exception.PreconditionFailedException;
 import com.example.edvantistask.exception.ResourceNotFoundException;
 import com.example.edvantistask.model.EmergencyCall;
+import com.example.edvantistask.model.GeoPoint;
 import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
 import com.example.edvantistask.repository.EmergencyCallRepository;
+import com.example.edvantistask.store.OpenEmergencyCallStore;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
+@Timed(value = "emergency.call.service", description = "Emergency call service operations")
 public class EmergencyCallServiceImpl implements EmergencyCallService {
 
+    private static final int MAX_CURSOR_LIMIT = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_SEARCH_TERMS = 8;
+    private static final int MAX_NEARBY_LIMIT = 100;
+    private static final double MAX_RADIUS_METERS = 100_000;
+    private static final double INITIAL_NEAREST_RADIUS_METERS = 1_000;
+
     private final EmergencyCallRepository repository;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OpenEmergencyCallStore openCalls;
 
     @Override
     @Transactional
     public EmergencyCallDTO createEmergencyCall(EmergencyCallCreateCommand command) {
         EmergencyCall emergencyCall = command.toEntity();
         EmergencyCall savedCall = repository.saveAndFlush(emergencyCall);
-        return EmergencyCallDTO.fromEntity(savedCall);
+        EmergencyCallDTO created = EmergencyCallDTO.fromEntity(savedCall);
+        eventPublisher.publishEvent(EmergencyCallEvent.created(created));
+        return created;
     }
 
     @Override
     @Transactional
-    public EmergencyCallDTO updateEmergencyCall(Long id, EmergencyCallUpdateCommand command) {
+    @CachePut(cacheNames = CacheConfig.EMERGENCY_CALLS_CACHE, key = "#id")
+    public EmergencyCallDTO updateEmergencyCall(Long id, EmergencyCallUpdateCommand command, Set<Long> expectedVersions) {
         EmergencyCall existingCall = getEmergencyCallById(id);
+        checkVersion(existingCall, expectedVersions);
+        EmergencyCallDTO previous = EmergencyCallDTO.fromEntity(existingCall);
         command.applyUpdate(existingCall);
         EmergencyCall updatedCall = repository.saveAndFlush(existingCall);
-        return EmergencyCallDTO.fromEntity(updatedCall);
+        EmergencyCallDTO updated = EmergencyCallDTO.fromEntity(updatedCall);
+        publishIfChanged(updated, previous);
+        return updated;
     }
 
     @Override
     @Transactional
-    public void deleteEmergencyCall(Long id) {
+    @CacheEvict(cacheNames = CacheConfig.EMERGENCY_CALLS_CACHE, key = "#id")
+    public void deleteEmergencyCall(Long id, Set<Long> expectedVersions) {
         EmergencyCall existingCall = getEmergencyCallById(id);
+        checkVersion(existingCall, expectedVersions);
         repository.delete(existingCall);
+        eventPublisher.publishEvent(EmergencyCallEvent.deleted(EmergencyCallDTO.fromEntity(existingCall)));
     }
 
+    /**
+     * A miss is read from the primary: the entry is shared by every user, so a lagging replica would serve a
+     * stale or deleted call from the cache until it expires, even to the user who changed it.
+     */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EMERGENCY_CALLS_CACHE, key = "#id")
     public EmergencyCallDTO getEmergencyCall(Long id) {
-        EmergencyCall emergencyCall = getEmergencyCallById(id);
-        return EmergencyCallDTO.fromEntity(emergencyCall);
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> repository.findDtoById(id))
+                .orElseThrow(() -> notFound(id));
     }
 
+    /**
+     * Open-call listings are served from {@link OpenEmergencyCallStore} once it is loaded, unless they are sorted
+     * by a property the store cannot order by. The method is not transactional so that those reads never borrow
+     * a connection; each database path is a single read-only repository call that runs its page and count
+     * queries together.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public Page<EmergencyCallDTO> getAllEmergencyCalls(IncidentType incidentType, Pageable pageable) {
-        Page<EmergencyCall> page;
+    public Page<EmergencyCallDTO> getAllEmergencyCalls(IncidentType incidentType, Status status, Pageable pageable) {
+        if (status == Status.OPEN && openCalls.isReady() && OpenEmergencyCallStore.canSort(pageable.getSort())) {
+            return openCalls.findOpen(incidentType, pageable);
+        }
+        if (status != null) {
+            return incidentType != null
+                    ? repository.findDtosByIncidentTypeAndStatus(incidentType, status, pageable)
+                    : repository.findDtosByStatus(status, pageable);
+        }
         if (incidentType != null) {
-            page = repository.findByIncidentType(incidentType, pageable);
+            return repository.findDtosByIncidentType(incidentType, pageable);
+        }
+        return repository.findAllDtos(pageable);
+    }
+
+    /**
+     * An open-ended range runs up to now.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmergencyCallDTO> getEmergencyCallsCreatedBetween(Instant from, Instant to, IncidentType incidentType,
+                                                                 Status status, Pageable pageable) {
+        Instant until = to != null ? to : Instant.now();
+        if (!from.isBefore(until)) {
+            throw new InvalidRequestException("createdFrom must be before createdTo");
+        }
+        return repository.findDtosCreatedBetween(from, until, incidentType, status, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EmergencyCallDTO> getEmergencyCallsAfter(IncidentType incidentType, Status status, Instant from,
+                                                               Instant to, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_CURSOR_LIMIT) {
+            throw new InvalidRequestException(String.format("Limit must be between 1 and %d", MAX_CURSOR_LIMIT));
+        }
+        long afterId = decodeCursor(cursor);
+        Pageable pageable = PageRequest.of(0, limit);
+        Slice<EmergencyCallDTO> slice;
+        if (status != null || from != null || to != null) {
+            Instant since = from != null ? from : Instant.EPOCH;
+            Instant until = to != null ? to : Instant.now();
+            if (!since.isBefore(until)) {
+                throw new InvalidRequestException("createdFrom must be before createdTo");
+            }
+            slice = repository.findDtosCreatedBetweenAfter(since, until, incidentType, status, afterId, pageable);
+        } else if (incidentType != null) {
+            slice = repository.findDtosByIncidentTypeAfter(incidentType, afterId, pageable);
         } else {
-            page = repository.findAll(pageable);
+            slice = repository.findDtosAfter(afterId, pageable);
+        }
+        List<EmergencyCallDTO> content = slice.getContent();
+        String nextCursor = slice.hasNext() ? encodeCursor(content.get(content.size() - 1).id()) : null;
+        return new CursorPage<>(content, nextCursor, slice.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmergencyCallDTO> searchEmergencyCalls(String query, IncidentType incidentType, Status status, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidRequestException(String.format("Limit must be between 1 and %d", MAX_SEARCH_LIMIT));
+        }
+        List<String> terms = Arrays.stream((query == null ? "" : query).toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+        if (terms.isEmpty() || terms.size() > MAX_SEARCH_TERMS) {
+            throw new InvalidRequestException(String.format("Search query must contain between 1 and %d words", MAX_SEARCH_TERMS));
+        }
+        return repository.search(terms, incidentType, status, limit);
+    }
+
+    /**
+     * Searches boxes of growing radius around the point until it holds {@code count} calls within the radius, so
+     * dense areas only read the neighbourhood. Each step reads at most {@code count} calls, nearest first. Calls
+     * further away than {@value #MAX_RADIUS_METERS} m are not considered.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmergencyCallDistanceDTO> findNearestEmergencyCalls(double latitude, double longitude, int count,
+                                                                    IncidentType incidentType, Status status) {
+        GeoPoint origin = toPoint(latitude, longitude);
+        checkNearbyLimit(count);
+        double radius = INITIAL_NEAREST_RADIUS_METERS;
+        while (true) {
+            List<EmergencyCallDistanceDTO> found = withinRadius(origin, radius, incidentType, status, count);
+            if (found.size() >= count || radius >= MAX_RADIUS_METERS) {
+                return found;
+            }
+            radius = Math.min(radius * 4, MAX_RADIUS_METERS);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmergencyCallDistanceDTO> findEmergencyCallsWithinRadius(double latitude, double longitude, double radiusMeters,
+                                                                         IncidentType incidentType, Status status, int limit) {
+        GeoPoint origin = toPoint(latitude, longitude);
+        checkNearbyLimit(limit);
+        if (!(radiusMeters > 0 && radiusMeters <= MAX_RADIUS_METERS)) {
+            throw new InvalidRequestException(String.format("Radius must be greater than 0 and at most %.0f meters", MAX_RADIUS_METERS));
+        }
+        return withinRadius(origin, radiusMeters, incidentType, status, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmergencyCallDTO> findEmergencyCallsWithinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                                              IncidentType incidentType, Status status, int limit) {
+        toPoint(minLatitude, minLongitude);
+        toPoint(maxLatitude, maxLongitude);
+        checkNearbyLimit(limit);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new InvalidRequestException("Bounding box minimum must not exceed its maximum");
+        }
+        return repository.findLocatedWithin(minLatitude, minLongitude, maxLatitude, maxLongitude, incidentType, status,
+                        PageRequest.of(0, limit))
+                .stream()
+                .map(LocatedEmergencyCall::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResult> createEmergencyCalls(List<EmergencyCallCreateCommand> commands) {
+        checkBatchSize(commands);
+        BatchItemResult[] results = new BatchItemResult[commands.size()];
+        List<EmergencyCall> toSave = new ArrayList<>();
+        List<Integer> toSaveIndexes = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            List<String> errors = validate(commands.get(i));
+            if (!errors.isEmpty()) {
+                results[i] = BatchItemResult.invalid(i, null, errors);
+                continue;
+            }
+            toSave.add(commands.get(i).toEntity());
+            toSaveIndexes.add(i);
+        }
+
+        List<EmergencyCall> saved = repository.saveAll(toSave);
+        repository.flush();
+        for (int i = 0; i < saved.size(); i++) {
+            int index = toSaveIndexes.get(i);
+            results[index] = BatchItemResult.success(index, saved.get(i).getId(), Outcome.CREATED);
+            eventPublisher.publishEvent(EmergencyCallEvent.created(EmergencyCallDTO.fromEntity(saved.get(i))));
+        }
+        return Arrays.asList(results);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMERGENCY_CALLS_CACHE, allEntries = true)
+    public List<BatchItemResult> updateEmergencyCalls(List<EmergencyCallBatchUpdateCommand> commands) {
+        checkBatchSize(commands);
+        List<Long> ids = commands.stream()
+                .filter(Objects::nonNull)
+                .map(EmergencyCallBatchUpdateCommand::id)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, EmergencyCall> existing = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(EmergencyCall::getId, Function.identity()));
+
+        List<BatchItemResult> results = new ArrayList<>(commands.size());
+        Map<Long, EmergencyCallDTO> previousStates = new HashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            EmergencyCallBatchUpdateCommand command = commands.get(i);
+            List<String> errors = validate(command);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.invalid(i, command != null ? command.id() : null, errors));
+                continue;
+            }
+            EmergencyCall call = existing.get(command.id());
+            if (call == null) {
+                results.add(BatchItemResult.notFound(i, command.id()));
+                continue;
+            }
+            if (command.version() != null && !command.version().equals(call.getVersion())) {
+                results.add(BatchItemResult.conflict(i, call.getId(), call.getVersion(), command.version()));
+                continue;
+            }
+            previousStates.putIfAbsent(call.getId(), EmergencyCallDTO.fromEntity(call));
+            command.toUpdateCommand().applyUpdate(call);
+            results.add(BatchItemResult.success(i, call.getId(), Outcome.UPDATED));
+        }
+        repository.flush();
+        previousStates.forEach((id, previous) -> publishIfChanged(EmergencyCallDTO.fromEntity(existing.get(id)), previous));
+        return results;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMERGENCY_CALLS_CACHE, allEntries = true)
+    public List<BatchItemResult> deleteEmergencyCalls(List<EmergencyCallBatchDeleteCommand> commands) {
+        checkBatchSize(commands);
+        List<Long> ids = commands.stream()
+                .filter(Objects::nonNull)
+                .map(EmergencyCallBatchDeleteCommand::id)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, EmergencyCall> existing = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(EmergencyCall::getId, Function.identity()));
+
+        List<BatchItemResult> results = new ArrayList<>(commands.size());
+        Map<Long, EmergencyCallDTO> deleted = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            EmergencyCallBatchDeleteCommand command = commands.get(i);
+            List<String> errors = validate(command);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.invalid(i, command != null ? command.id() : null, errors));
+                continue;
+            }
+            EmergencyCall call = existing.get(command.id());
+            if (call == null) {
+                results.add(BatchItemResult.notFound(i, command.id()));
+                continue;
+            }
+            if (command.version() != null && !command.version().equals(call.getVersion())) {
+                results.add(BatchItemResult.conflict(i, call.getId(), call.getVersion(), command.version()));
+                continue;
+            }
+            if (!deleted.containsKey(call.getId())) {
+                deleted.put(call.getId(), EmergencyCallDTO.fromEntity(call));
+                repository.delete(call);
+            }
+            results.add(BatchItemResult.success(i, call.getId(), Outcome.DELETED));
+        }
+        // removed as entities, so the version of every row is checked and the entity listeners run
+        repository.flush();
+        deleted.values().forEach(previous -> eventPublisher.publishEvent(EmergencyCallEvent.deleted(previous)));
+        return results;
+    }
+
+    /**
+     * The {@code limit} calls nearest to {@code origin} within the radius. The database ranks the calls in the
+     * surrounding box and returns only the first {@code limit}; their exact distances settle the final order.
+     */
+    private List<EmergencyCallDistanceDTO> withinRadius(GeoPoint origin, double radiusMeters, IncidentType incidentType,
+                                                        Status status, int limit) {
+        GeoPoint.Box box = origin.boxAround(radiusMeters);
+        double cosLatitude = Math.cos(Math.toRadians(origin.latitude()));
+        return repository.findNearestLocatedWithin(box.minLatitude(), box.minLongitude(), box.maxLatitude(), box.maxLongitude(),
+                        origin.latitude(), origin.longitude(), cosLatitude * cosLatitude, incidentType, status,
+                        PageRequest.of(0, limit))
+                .stream()
+                .map(call -> new EmergencyCallDistanceDTO(call.toDto(), origin.distanceMeters(call.latitude(), call.longitude())))
+                .filter(result -> result.distanceMeters() <= radiusMeters)
+                .sorted(Comparator.comparingDouble(EmergencyCallDistanceDTO::distanceMeters)
+                        .thenComparing(result -> result.call().id()))
+                .toList();
+    }
+
+    private static GeoPoint toPoint(double latitude, double longitude) {
+        try {
+            return new GeoPoint(latitude, longitude);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(e.getMessage());
+        }
+    }
+
+    private static void checkNearbyLimit(int limit) {
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new InvalidRequestException(String.format("Limit must be between 1 and %d", MAX_NEARBY_LIMIT));
+        }
+    }
+
+    private static void checkBatchSize(List<?> items) {
+        if (items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException(String.format("Batch must contain between 1 and %d items", MAX_BATCH_SIZE));
+        }
+    }
+
+    private List<String> validate(Object command) {
+        if (command == null) {
+            return List.of("Item is required");
+        }
+        return validator.validate(command).stream()
+                .map(ConstraintViolation::getMessage)
+                .toList();
+    }
+
+    private static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * An update that changes nothing is not flushed and keeps its version, so it must not record another change.
+     */
+    private void publishIfChanged(EmergencyCallDTO updated, EmergencyCallDTO previous) {
+        if (!Objects.equals(updated.version(), previous.version())) {
+            eventPublisher.publishEvent(EmergencyCallEvent.updated(updated, previous));
+        }
+    }
+
+    private static void checkVersion(EmergencyCall call, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(call.getVersion())) {
+            throw new PreconditionFailedException(String.format("Emergency Call %d is at version %d, expected %s",
+                    call.getId(), call.getVersion(), expectedVersions.stream().map(String::valueOf)
+                            .collect(Collectors.joining(" or "))));
         }
-        return page.map(EmergencyCallDTO::fromEntity);
     }
 
     private EmergencyCall getEmergencyCallById(Long id) {
-        return repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(String.format("Emergency Call not found with id: %d", id)));
+        return repository.findById(id).orElseThrow(() -> notFound(id));
+    }
+
+    private static ResourceNotFoundException notFound(Long id) {
+        return new ResourceNotFoundException(String.format("Emergency Call not found with id: %d", id));
     }
 }
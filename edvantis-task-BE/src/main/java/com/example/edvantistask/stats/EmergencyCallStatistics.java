@@ -0,0 +1,253 @@
+package com.example.edvantistask.stats;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.dto.EmergencyCallStatsDTO;
+import com.example.edvantistask.dto.IncidentBucketCount;
+import com.example.edvantistask.dto.IncidentStatusCount;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the number of calls per incident type and status in memory, so statistics are answered without
+ * scanning {@code emergency_calls}.
+ * <p>
+ * Counters move with every committed create, update and delete published by the service. Writes that bypass
+ * the service are corrected by periodically replacing the counters with a grouped count from the database.
+ * Creations are also counted per time bucket in a fixed ring covering the last {@code bucketCount} buckets; each
+ * reconciliation reloads the ring from {@code created_at}, so it covers calls created anywhere, and this
+ * instance's creations are added on top until the next one. A reconciliation reads the counts, the ring and
+ * the versions of recently changed calls from one repeatable-read snapshot. Changes committed while it runs are
+ * buffered, and those the snapshot does not contain yet are applied again on top of it, so none is lost or
+ * counted twice.
+ */
+@Slf4j
+@Component
+public class EmergencyCallStatistics {
+
+    private static final IncidentType[] INCIDENT_TYPES = IncidentType.values();
+    private static final Status[] STATUSES = Status.values();
+
+    private final EmergencyCallRepository repository;
+    private final Clock clock;
+    private final long bucketMillis;
+    private final AtomicLongArray counts = new AtomicLongArray(INCIDENT_TYPES.length * STATUSES.length);
+    private final long[] bucketIndexes;
+    private final long[][] createdPerBucket;
+    private final Counter drift;
+    private final TransactionTemplate snapshotTransaction;
+    private final Object lock = new Object();
+    private List<EmergencyCallEvent> eventsDuringReconcile;
+    private volatile Instant reconciledAt;
+
+    @Autowired
+    public EmergencyCallStatistics(EmergencyCallRepository repository, StatsProperties properties,
+                                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this(repository, properties, transactionManager, meterRegistry, Clock.systemUTC());
+    }
+
+    EmergencyCallStatistics(EmergencyCallRepository repository, StatsProperties properties,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, Clock clock) {
+        this.repository = repository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.clock = clock;
+        this.bucketMillis = properties.bucketSize().toMillis();
+        this.bucketIndexes = new long[properties.bucketCount()];
+        this.createdPerBucket = new long[properties.bucketCount()][INCIDENT_TYPES.length];
+        this.drift = Counter.builder("emergency.call.stats.drift")
+                .description("Counter corrections applied by reconciliation with the database")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmergencyCallEvent(EmergencyCallEvent event) {
+        synchronized (lock) {
+            if (eventsDuringReconcile != null) {
+                eventsDuringReconcile.add(event);
+            }
+            apply(event);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval:5m}", initialDelayString = "${app.stats.reconcile-interval:5m}")
+    public void reconcile() {
+        synchronized (lock) {
+            eventsDuringReconcile = new ArrayList<>();
+        }
+        long corrections;
+        try {
+            corrections = snapshotTransaction.execute(status -> loadSnapshot());
+        } finally {
+            synchronized (lock) {
+                eventsDuringReconcile = null;
+            }
+        }
+        boolean initialLoad = reconciledAt == null;
+        reconciledAt = clock.instant();
+        if (initialLoad || corrections == 0) {
+            return;
+        }
+        log.warn("Emergency call statistics drifted from the database by {} and were corrected", corrections);
+        drift.increment(corrections);
+    }
+
+    /**
+     * Replaces the counters and the ring with the database's, and returns how far the counters were off. The
+     * versions of the calls changed meanwhile are read under the lock, so no further change can commit unseen
+     * between that lookup and the swap.
+     */
+    private long loadSnapshot() {
+        long[] actual = new long[counts.length()];
+        for (IncidentStatusCount count : repository.countByIncidentTypeAndStatus()) {
+            actual[cell(count.incidentType(), count.status())] = count.count();
+        }
+        long firstBucket = clock.millis() / bucketMillis - bucketIndexes.length + 1;
+        List<IncidentBucketCount> created =
+                repository.countCreatedPerBucketSince(Instant.ofEpochMilli(firstBucket * bucketMillis), bucketMillis);
+        synchronized (lock) {
+            Set<Long> changedIds = new HashSet<>();
+            Set<Long> removedIds = new HashSet<>();
+            for (EmergencyCallEvent event : eventsDuringReconcile) {
+                changedIds.add(event.id());
+                if (event.call() == null) {
+                    removedIds.add(event.id());
+                }
+            }
+            Map<Long, Long> versions = new HashMap<>();
+            if (!changedIds.isEmpty()) {
+                repository.findVersionsByIdIn(changedIds).forEach(call -> versions.put(call.getId(), call.getVersion()));
+            }
+            long[] before = new long[actual.length];
+            for (int i = 0; i < actual.length; i++) {
+                before[i] = counts.getAndSet(i, actual[i]);
+            }
+            loadBuckets(firstBucket, created);
+            for (EmergencyCallEvent event : eventsDuringReconcile) {
+                if (!inSnapshot(event, versions, removedIds)) {
+                    apply(event);
+                }
+            }
+            long corrections = 0;
+            for (int i = 0; i < actual.length; i++) {
+                corrections += Math.abs(before[i] - counts.get(i));
+            }
+            return corrections;
+        }
+    }
+
+    /**
+     * A change is in the snapshot if the snapshot holds its call at that version or later. A call missing from it
+     * whose removal was buffered was either removed in the snapshot, with every earlier change, or not created yet,
+     * with every change still to come; skipping its buffered changes is right both ways.
+     */
+    private static boolean inSnapshot(EmergencyCallEvent event, Map<Long, Long> versions, Set<Long> removedIds) {
+        Long version = versions.get(event.id());
+        return version != null ? event.version() <= version : removedIds.contains(event.id());
+    }
+
+    public EmergencyCallStatsDTO snapshot(boolean includeBuckets) {
+        Map<IncidentType, Map<Status, Long>> byType = new EnumMap<>(IncidentType.class);
+        long total = 0;
+        for (IncidentType incidentType : INCIDENT_TYPES) {
+            Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+            for (Status status : STATUSES) {
+                long count = counts.get(cell(incidentType, status));
+                byStatus.put(status, count);
+                total += count;
+            }
+            byType.put(incidentType, byStatus);
+        }
+        return new EmergencyCallStatsDTO(byType, total, reconciledAt, includeBuckets ? buckets() : null);
+    }
+
+    private void apply(EmergencyCallEvent event) {
+        if (event.previous() != null) {
+            counts.decrementAndGet(cell(event.previous()));
+        }
+        if (event.call() != null) {
+            counts.incrementAndGet(cell(event.call()));
+        }
+        if (event.type() == EmergencyCallEvent.Type.CREATED) {
+            recordCreation(event.call().incidentType());
+        }
+    }
+
+    /**
+     * Replaces the ring with the creations counted in the database, starting from bucket {@code firstBucket}.
+     */
+    private void loadBuckets(long firstBucket, List<IncidentBucketCount> created) {
+        for (long index = firstBucket; index < firstBucket + bucketIndexes.length; index++) {
+            int slot = (int) (index % bucketIndexes.length);
+            bucketIndexes[slot] = index;
+            createdPerBucket[slot] = new long[INCIDENT_TYPES.length];
+        }
+        for (IncidentBucketCount count : created) {
+            int slot = (int) (count.getBucket() % bucketIndexes.length);
+            if (bucketIndexes[slot] == count.getBucket()) {
+                createdPerBucket[slot][count.getIncidentType().ordinal()] += count.getCreated();
+            }
+        }
+    }
+
+    private void recordCreation(IncidentType incidentType) {
+        long index = clock.millis() / bucketMillis;
+        int slot = (int) (index % bucketIndexes.length);
+        if (bucketIndexes[slot] != index) {
+            bucketIndexes[slot] = index;
+            createdPerBucket[slot] = new long[INCIDENT_TYPES.length];
+        }
+        createdPerBucket[slot][incidentType.ordinal()]++;
+    }
+
+    private List<EmergencyCallStatsDTO.Bucket> buckets() {
+        long current = clock.millis() / bucketMillis;
+        List<EmergencyCallStatsDTO.Bucket> buckets = new ArrayList<>(bucketIndexes.length);
+        synchronized (lock) {
+            for (long index = current - bucketIndexes.length + 1; index <= current; index++) {
+                int slot = (int) (index % bucketIndexes.length);
+                Map<IncidentType, Long> created = new EnumMap<>(IncidentType.class);
+                for (IncidentType incidentType : INCIDENT_TYPES) {
+                    created.put(incidentType, bucketIndexes[slot] == index ? createdPerBucket[slot][incidentType.ordinal()] : 0L);
+                }
+                buckets.add(new EmergencyCallStatsDTO.Bucket(Instant.ofEpochMilli(index * bucketMillis), created));
+            }
+        }
+        return buckets;
+    }
+
+    private static int cell(EmergencyCallDTO call) {
+        return cell(call.incidentType(), call.status());
+    }
+
+    private static int cell(IncidentType incidentType, Status status) {
+        return incidentType.ordinal() * STATUSES.length + status.ordinal();
+    }
+}
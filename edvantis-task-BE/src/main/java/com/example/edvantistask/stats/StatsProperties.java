@@ -0,0 +1,13 @@
+package com.example.edvantistask.stats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.stats")
+public record StatsProperties(
+        @DefaultValue("5m") Duration reconcileInterval,
+        @DefaultValue("1h") Duration bucketSize,
+        @DefaultValue("24") int bucketCount
+) {}
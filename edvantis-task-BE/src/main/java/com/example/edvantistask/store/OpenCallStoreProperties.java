@@ -0,0 +1,12 @@
+package com.example.edvantistask.store;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.open-calls")
+public record OpenCallStoreProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1m") Duration refreshInterval
+) {}
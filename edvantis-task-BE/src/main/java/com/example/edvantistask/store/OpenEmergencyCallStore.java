@@ -0,0 +1,188 @@
+package com.example.edvantistask.store;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.exception.InvalidRequestException;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Keeps every {@link Status#OPEN} call in memory, partitioned by incident type into id-ordered concurrent maps,
+ * so open-call listings are answered without a database round-trip.
+ * <p>
+ * The store is loaded once the application is ready and follows the committed changes published by the
+ * service: open calls are inserted or replaced when their version is newer, closed and deleted calls are
+ * evicted. The id and version of evicted calls are remembered until the next refresh, so a late event for an
+ * older version cannot bring a call back. Writes made elsewhere (another instance, the reactive API) are
+ * picked up by the periodic refresh. Until the first load completes, {@link #isReady()} is {@code false} and
+ * callers read from the database.
+ */
+@Slf4j
+@Component
+public class OpenEmergencyCallStore {
+
+    private static final Map<String, Comparator<EmergencyCallDTO>> SORTABLE_PROPERTIES = Map.of(
+            "id", Comparator.comparing(EmergencyCallDTO::id),
+            "callerName", Comparator.comparing(EmergencyCallDTO::callerName),
+            "position", Comparator.comparing(EmergencyCallDTO::position),
+            "incidentType", Comparator.comparing(EmergencyCallDTO::incidentType),
+            "status", Comparator.comparing(EmergencyCallDTO::status),
+            "version", Comparator.comparing(EmergencyCallDTO::version));
+
+    private final EmergencyCallRepository repository;
+    private final OpenCallStoreProperties properties;
+    private final Object lock = new Object();
+    private volatile Map<IncidentType, ConcurrentSkipListMap<Long, EmergencyCallDTO>> callsByType = emptyPartitions();
+    private Map<Long, Long> evictedVersions = new HashMap<>();
+    private List<EmergencyCallEvent> eventsDuringRefresh;
+    private volatile boolean ready;
+
+    public OpenEmergencyCallStore(EmergencyCallRepository repository, OpenCallStoreProperties properties, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        Gauge.builder("emergency.call.open.store.size", this, OpenEmergencyCallStore::size)
+                .description("Open emergency calls held in memory")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return callsByType.values().stream().mapToInt(Map::size).sum();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmergencyCallEvent(EmergencyCallEvent event) {
+        synchronized (lock) {
+            if (eventsDuringRefresh != null) {
+                eventsDuringRefresh.add(event);
+            }
+            apply(event);
+        }
+    }
+
+    /**
+     * Replaces the contents with the open calls currently in the database. Events committed while the query
+     * runs are applied again on top of the loaded state, so none of them is lost to the swap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.open-calls.refresh-interval:1m}", initialDelayString = "${app.open-calls.refresh-interval:1m}")
+    public void refresh() {
+        if (!properties.enabled()) {
+            return;
+        }
+        synchronized (lock) {
+            eventsDuringRefresh = new ArrayList<>();
+        }
+        try {
+            List<EmergencyCallDTO> openCalls = repository.findAllDtosByStatus(Status.OPEN);
+            Map<IncidentType, ConcurrentSkipListMap<Long, EmergencyCallDTO>> loaded = emptyPartitions();
+            openCalls.forEach(call -> loaded.get(call.incidentType()).put(call.id(), call));
+            synchronized (lock) {
+                callsByType = loaded;
+                evictedVersions = new HashMap<>();
+                eventsDuringRefresh.forEach(this::apply);
+                ready = true;
+            }
+            log.debug("Loaded {} open emergency calls", openCalls.size());
+        } finally {
+            synchronized (lock) {
+                eventsDuringRefresh = null;
+            }
+        }
+    }
+
+    /**
+     * Returns one page of open calls, optionally of one incident type, sorted like the database listing.
+     */
+    public Page<EmergencyCallDTO> findOpen(IncidentType incidentType, Pageable pageable) {
+        Collection<ConcurrentSkipListMap<Long, EmergencyCallDTO>> partitions = incidentType != null
+                ? List.of(callsByType.get(incidentType))
+                : callsByType.values();
+        Stream<EmergencyCallDTO> calls = partitions.stream().flatMap(partition -> partition.values().stream());
+        if (incidentType == null || pageable.getSort().isSorted()) {
+            calls = calls.sorted(comparator(pageable.getSort()));
+        }
+        List<EmergencyCallDTO> snapshot = calls.toList();
+        List<EmergencyCallDTO> content = pageable.isPaged()
+                ? snapshot.stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList()
+                : snapshot;
+        return new PageImpl<>(content, pageable, snapshot.size());
+    }
+
+    /**
+     * Whether {@link #findOpen} can order by {@code sort}. Other orders, such as the timestamps, which calls in
+     * the store do not carry, have to be read from the database.
+     */
+    public static boolean canSort(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE_PROPERTIES.containsKey(order.getProperty()));
+    }
+
+    private void apply(EmergencyCallEvent event) {
+        EmergencyCallDTO previous = event.previous();
+        EmergencyCallDTO call = event.call();
+        if (call != null && call.status() == Status.OPEN) {
+            Long evictedVersion = evictedVersions.get(call.id());
+            if (evictedVersion != null && evictedVersion >= call.version()) {
+                return;
+            }
+            if (previous != null && previous.incidentType() != call.incidentType()) {
+                callsByType.get(previous.incidentType()).remove(call.id());
+            }
+            callsByType.get(call.incidentType()).merge(call.id(), call,
+                    (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+            return;
+        }
+        EmergencyCallDTO evicted = call != null ? call : previous;
+        callsByType.values().forEach(partition -> partition.remove(evicted.id()));
+        evictedVersions.merge(evicted.id(), evicted.version(), Math::max);
+    }
+
+    private static Comparator<EmergencyCallDTO> comparator(Sort sort) {
+        Comparator<EmergencyCallDTO> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<EmergencyCallDTO> property = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                throw new InvalidRequestException("Cannot sort by: " + order.getProperty());
+            }
+            property = order.isAscending() ? property : property.reversed();
+            comparator = comparator == null ? property : comparator.thenComparing(property);
+        }
+        Comparator<EmergencyCallDTO> byId = SORTABLE_PROPERTIES.get("id");
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    private static Map<IncidentType, ConcurrentSkipListMap<Long, EmergencyCallDTO>> emptyPartitions() {
+        Map<IncidentType, ConcurrentSkipListMap<Long, EmergencyCallDTO>> partitions = new EnumMap<>(IncidentType.class);
+        for (IncidentType incidentType : IncidentType.values()) {
+            partitions.put(incidentType, new ConcurrentSkipListMap<>());
+        }
+        return partitions;
+    }
+}
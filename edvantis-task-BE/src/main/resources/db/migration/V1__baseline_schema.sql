@@ -0,0 +1,22 @@
+-- Creates the schema on an empty database and brings databases that were previously managed by
+-- hibernate ddl-auto=update to the same shape, so every statement has to be idempotent.
+
+CREATE TABLE IF NOT EXISTS user_accounts (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role     VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS emergency_calls (
+    id            BIGINT PRIMARY KEY,
+    caller_name   VARCHAR(255) NOT NULL,
+    position      VARCHAR(255) NOT NULL,
+    incident_type VARCHAR(255) NOT NULL,
+    status        VARCHAR(255) NOT NULL,
+    version       BIGINT DEFAULT 0 NOT NULL
+);
+
+ALTER TABLE emergency_calls ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+CREATE SEQUENCE IF NOT EXISTS emergency_calls_seq START WITH 1 INCREMENT BY 50;
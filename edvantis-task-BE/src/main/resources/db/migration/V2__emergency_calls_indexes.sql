@@ -0,0 +1,5 @@
+-- Incident type filtered listing and keyset pagination: WHERE incident_type = ? [AND id > ?] ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_emergency_calls_incident_type_id ON emergency_calls (incident_type, id);
+
+-- Dispatch views filtered by status, optionally narrowed by incident type
+CREATE INDEX IF NOT EXISTS idx_emergency_calls_status_incident_type ON emergency_calls (status, incident_type);
@@ -0,0 +1,6 @@
+-- Coordinates parsed from positions written as "lat, lon". Radius and nearest-neighbour queries narrow the
+-- candidates to a bounding box with a latitude range scan and filter the longitude from the same index.
+ALTER TABLE emergency_calls ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE emergency_calls ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+
+CREATE INDEX IF NOT EXISTS idx_emergency_calls_latitude_longitude ON emergency_calls (latitude, longitude);
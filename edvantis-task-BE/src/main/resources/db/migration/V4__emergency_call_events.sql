@@ -0,0 +1,20 @@
+-- Append-only history of emergency call changes. Every row holds the complete state after the change (the last
+-- state for deletions, which count as a revision of their own), so the highest version per call is enough to
+-- rebuild emergency_calls. Rows are only ever inserted.
+CREATE TABLE IF NOT EXISTS emergency_call_events (
+    id            BIGINT PRIMARY KEY,
+    call_id       BIGINT                   NOT NULL,
+    version       BIGINT                   NOT NULL,
+    type          VARCHAR(16)              NOT NULL,
+    caller_name   VARCHAR(255)             NOT NULL,
+    position      VARCHAR(255)             NOT NULL,
+    incident_type VARCHAR(255)             NOT NULL,
+    status        VARCHAR(255)             NOT NULL,
+    latitude      DOUBLE PRECISION,
+    longitude     DOUBLE PRECISION,
+    occurred_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    actor         VARCHAR(255)             NOT NULL,
+    CONSTRAINT uk_emergency_call_events_call_id_version UNIQUE (call_id, version)
+);
+
+CREATE SEQUENCE IF NOT EXISTS emergency_call_events_seq START WITH 1 INCREMENT BY 50;
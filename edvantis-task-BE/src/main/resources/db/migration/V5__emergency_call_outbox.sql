@@ -0,0 +1,17 @@
+-- Changes waiting to be published to downstream systems. Rows are inserted in the writing transaction and
+-- deleted by the relay once the sink has accepted them; failed rows wait until next_attempt_at.
+CREATE TABLE IF NOT EXISTS emergency_call_outbox (
+    id              BIGINT PRIMARY KEY,
+    call_id         BIGINT                   NOT NULL,
+    type            VARCHAR(16)              NOT NULL,
+    payload         VARCHAR(4000)            NOT NULL,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL,
+    attempts        INTEGER                  NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_error      VARCHAR(1000)
+);
+
+CREATE SEQUENCE IF NOT EXISTS emergency_call_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE INDEX IF NOT EXISTS idx_emergency_call_outbox_next_attempt_at ON emergency_call_outbox (next_attempt_at, id);
+CREATE INDEX IF NOT EXISTS idx_emergency_call_outbox_call_id_id ON emergency_call_outbox (call_id, id);
@@ -0,0 +1,7 @@
+-- Last sequence of each node's local ingestion log that has been written to emergency_calls. It is advanced in
+-- the same transaction as the inserted calls, so a recovered log is replayed without duplicates.
+CREATE TABLE IF NOT EXISTS ingest_checkpoints (
+    node_id    VARCHAR(255) PRIMARY KEY,
+    sequence   BIGINT                   NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
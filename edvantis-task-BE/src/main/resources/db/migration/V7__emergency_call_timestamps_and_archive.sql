@@ -0,0 +1,22 @@
+-- Creation and last modification times of every call. Existing calls take the times recorded in the event
+-- history where there is one and the time of the migration otherwise.
+ALTER TABLE emergency_calls ADD COLUMN IF NOT EXISTS created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL;
+ALTER TABLE emergency_calls ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+UPDATE emergency_calls
+SET created_at = (SELECT MIN(e.occurred_at) FROM emergency_call_events e WHERE e.call_id = emergency_calls.id),
+    updated_at = (SELECT MAX(e.occurred_at) FROM emergency_call_events e WHERE e.call_id = emergency_calls.id)
+WHERE EXISTS (SELECT 1 FROM emergency_call_events e WHERE e.call_id = emergency_calls.id);
+
+-- Archival candidates: WHERE status = 'CLOSED' AND created_at < ? ORDER BY created_at
+CREATE INDEX IF NOT EXISTS idx_emergency_calls_status_created_at ON emergency_calls (status, created_at);
+
+-- Where each archived call is kept in cold storage: the compressed block of an archive file that holds it.
+-- Calls are moved out of emergency_calls in the same transaction that inserts their row here.
+CREATE TABLE IF NOT EXISTS emergency_call_archive (
+    call_id      BIGINT PRIMARY KEY,
+    file_name    VARCHAR(255)             NOT NULL,
+    block_offset BIGINT                   NOT NULL,
+    block_length INTEGER                  NOT NULL,
+    archived_at  TIMESTAMP WITH TIME ZONE NOT NULL
+);
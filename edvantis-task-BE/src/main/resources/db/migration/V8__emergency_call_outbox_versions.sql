@@ -0,0 +1,14 @@
+-- Outbox ids come from a pooled sequence, so they do not follow commit order across instances. Each message now
+-- carries the version its change left the call at, and the relay orders a call's messages by it. Messages
+-- already waiting are numbered in id order, which stays below the versions of any later change of their call.
+ALTER TABLE emergency_call_outbox ADD COLUMN IF NOT EXISTS version BIGINT;
+
+UPDATE emergency_call_outbox
+SET version = (SELECT COUNT(*) FROM emergency_call_outbox b
+               WHERE b.call_id = emergency_call_outbox.call_id AND b.id < emergency_call_outbox.id)
+WHERE version IS NULL;
+
+ALTER TABLE emergency_call_outbox ALTER COLUMN version SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_emergency_call_outbox_call_id_id;
+CREATE INDEX IF NOT EXISTS idx_emergency_call_outbox_call_id_version ON emergency_call_outbox (call_id, version);
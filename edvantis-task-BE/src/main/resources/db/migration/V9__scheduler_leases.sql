@@ -0,0 +1,9 @@
+-- Which instance may run a cluster-wide scheduled job, and until when. A holder extends its lease in the same
+-- transaction as each unit of work, so another instance only takes over once the lease has run out.
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name       VARCHAR(64) PRIMARY KEY,
+    holder     VARCHAR(255)             NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO scheduler_leases (name, holder, expires_at) VALUES ('emergency-call-archive', '', TIMESTAMP WITH TIME ZONE '1970-01-01 00:00:00+00');
@@ -2,24 +2,33 @@ package com.example.edvantistask;
 
 import com.example.edvantistask.command.EmergencyCallCreateCommand;
 import com.example.edvantistask.command.EmergencyCallUpdateCommand;
+import com.example.edvantistask.dto.CursorPage;
 import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.exception.InvalidRequestException;
+import com.example.edvantistask.exception.PreconditionFailedException;
 import com.example.edvantistask.exception.ResourceNotFoundException;
 import com.example.edvantistask.model.EmergencyCall;
 import com.example.edvantistask.model.IncidentType;
 import com.example.edvantistask.model.Status;
 import com.example.edvantistask.repository.EmergencyCallRepository;
 import com.example.edvantistask.service.EmergencyCallServiceImpl;
+import com.example.edvantistask.store.OpenEmergencyCallStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +38,12 @@ class EmergencyCallServiceTest {
     @Mock
     private EmergencyCallRepository repository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OpenEmergencyCallStore openCalls;
+
     @InjectMocks
     private EmergencyCallServiceImpl service;
 
@@ -62,7 +77,7 @@ class EmergencyCallServiceTest {
     @Test
     void shouldThrowResourceNotFoundWhenEmergencyCallDoesNotExist() {
         // given:
-        when(repository.findById(1L)).thenReturn(Optional.empty());
+        when(repository.findDtoById(1L)).thenReturn(Optional.empty());
 
         // when/then:
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> service.getEmergencyCall(1L));
@@ -95,7 +110,7 @@ class EmergencyCallServiceTest {
         when(repository.saveAndFlush(existing)).thenReturn(updatedEntity);
 
         // when:
-        EmergencyCallDTO result = service.updateEmergencyCall(1L, updateCommand);
+        EmergencyCallDTO result = service.updateEmergencyCall(1L, updateCommand, null);
 
         // then:
         assertEquals("Updated Caller", result.callerName());
@@ -104,6 +119,30 @@ class EmergencyCallServiceTest {
         assertEquals(Status.CLOSED, result.status());
     }
 
+    @Test
+    void shouldRejectUpdateWhenExpectedVersionDoesNotMatch() {
+        // given:
+        EmergencyCall existing = new EmergencyCall();
+        existing.setId(1L);
+        existing.setCallerName("Old Caller");
+        existing.setPosition("Old Address");
+        existing.setIncidentType(IncidentType.FIRE);
+        existing.setStatus(Status.OPEN);
+        existing.setVersion(3L);
+        when(repository.findById(1L)).thenReturn(Optional.of(existing));
+
+        EmergencyCallUpdateCommand updateCommand = new EmergencyCallUpdateCommand(
+                "Updated Caller",
+                "Updated Address",
+                IncidentType.ACCIDENT,
+                Status.CLOSED
+        );
+
+        // when/then:
+        assertThrows(PreconditionFailedException.class, () -> service.updateEmergencyCall(1L, updateCommand, Set.of(2L)));
+        verify(repository, never()).saveAndFlush(any(EmergencyCall.class));
+    }
+
     @Test
     void shouldDeleteEmergencyCallWhenIdExists() {
         // given:
@@ -117,7 +156,7 @@ class EmergencyCallServiceTest {
         doNothing().when(repository).delete(existing);
 
         // when:
-        service.deleteEmergencyCall(1L);
+        service.deleteEmergencyCall(1L, null);
 
         // then:
         verify(repository, times(1)).delete(existing);
@@ -126,30 +165,94 @@ class EmergencyCallServiceTest {
     @Test
     void shouldReturnAllEmergencyCallsWhenFilteredByIncidentType() {
         // given:
-        EmergencyCall call1 = new EmergencyCall();
-        call1.setId(1L);
-        call1.setCallerName("A");
-        call1.setPosition("Addr A");
-        call1.setIncidentType(IncidentType.FIRE);
-        call1.setStatus(Status.OPEN);
-
-        EmergencyCall call2 = new EmergencyCall();
-        call2.setId(2L);
-        call2.setCallerName("B");
-        call2.setPosition("Addr B");
-        call2.setIncidentType(IncidentType.FIRE);
-        call2.setStatus(Status.OPEN);
-
-        List<EmergencyCall> list = List.of(call1, call2);
-        Page<EmergencyCall> page = new PageImpl<>(list);
-        when(repository.findByIncidentType(IncidentType.FIRE, PageRequest.of(0, 10)))
+        EmergencyCallDTO call1 = new EmergencyCallDTO(1L, "A", "Addr A", IncidentType.FIRE, Status.OPEN, 0L);
+        EmergencyCallDTO call2 = new EmergencyCallDTO(2L, "B", "Addr B", IncidentType.FIRE, Status.OPEN, 0L);
+
+        List<EmergencyCallDTO> list = List.of(call1, call2);
+        Page<EmergencyCallDTO> page = new PageImpl<>(list);
+        when(repository.findDtosByIncidentType(IncidentType.FIRE, PageRequest.of(0, 10)))
                 .thenReturn(page);
 
         // when:
-        Page<EmergencyCallDTO> result = service.getAllEmergencyCalls(IncidentType.FIRE, PageRequest.of(0, 10));
+        Page<EmergencyCallDTO> result = service.getAllEmergencyCalls(IncidentType.FIRE, null, PageRequest.of(0, 10));
 
         // then:
         assertEquals(2, result.getTotalElements());
-        verify(repository, times(1)).findByIncidentType(IncidentType.FIRE, PageRequest.of(0, 10));
+        verify(repository, times(1)).findDtosByIncidentType(IncidentType.FIRE, PageRequest.of(0, 10));
+    }
+
+    @Test
+    void shouldServeOpenCallListingFromStoreOnceLoaded() {
+        // given:
+        Page<EmergencyCallDTO> page = new PageImpl<>(List.of(new EmergencyCallDTO(1L, "A", "Addr A", IncidentType.FIRE, Status.OPEN, 0L)));
+        when(openCalls.isReady()).thenReturn(true);
+        when(openCalls.findOpen(IncidentType.FIRE, PageRequest.of(0, 10))).thenReturn(page);
+
+        // when:
+        Page<EmergencyCallDTO> open = service.getAllEmergencyCalls(IncidentType.FIRE, Status.OPEN, PageRequest.of(0, 10));
+        service.getAllEmergencyCalls(IncidentType.FIRE, Status.CLOSED, PageRequest.of(0, 10));
+
+        // then:
+        assertSame(page, open);
+        verify(repository, never()).findDtosByIncidentTypeAndStatus(IncidentType.FIRE, Status.OPEN, PageRequest.of(0, 10));
+        verify(repository).findDtosByIncidentTypeAndStatus(IncidentType.FIRE, Status.CLOSED, PageRequest.of(0, 10));
+    }
+
+    @Test
+    void shouldReadOpenCallListingFromDatabaseWhenStoreCannotSortIt() {
+        // given:
+        PageRequest byCreation = PageRequest.of(0, 10, Sort.by("createdAt"));
+        when(openCalls.isReady()).thenReturn(true);
+
+        // when:
+        service.getAllEmergencyCalls(IncidentType.FIRE, Status.OPEN, byCreation);
+
+        // then:
+        verify(openCalls, never()).findOpen(any(), any());
+        verify(repository).findDtosByIncidentTypeAndStatus(IncidentType.FIRE, Status.OPEN, byCreation);
+    }
+
+    @Test
+    void shouldSeekFilteredCursorPagesFromTheEpochWhenOnlyStatusIsGiven() {
+        // given:
+        EmergencyCallDTO call = new EmergencyCallDTO(7L, "A", "Addr A", IncidentType.FIRE, Status.CLOSED, 0L);
+        when(repository.findDtosCreatedBetweenAfter(eq(Instant.EPOCH), any(Instant.class), isNull(), eq(Status.CLOSED),
+                eq(0L), eq(PageRequest.of(0, 1))))
+                .thenReturn(new SliceImpl<>(List.of(call), PageRequest.of(0, 1), true));
+
+        // when:
+        CursorPage<EmergencyCallDTO> page = service.getEmergencyCallsAfter(null, Status.CLOSED, null, null, null, 1);
+
+        // then:
+        assertEquals(List.of(call), page.content());
+        assertTrue(page.hasNext());
+        assertNotNull(page.nextCursor());
+        verify(repository, never()).findDtosAfter(anyLong(), any());
+    }
+
+    @Test
+    void shouldRejectEmptyCreationWindowInCursorMode() {
+        // given:
+        Instant from = Instant.parse("2024-05-02T00:00:00Z");
+
+        // when/then:
+        assertThrows(InvalidRequestException.class,
+                () -> service.getEmergencyCallsAfter(null, null, from, from.minusSeconds(1), null, 10));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldSplitSearchQueryIntoDistinctLowerCaseTerms() {
+        // given:
+        EmergencyCallDTO call = new EmergencyCallDTO(1L, "Anne O'Brien", "12 Elm St", IncidentType.CRIME, Status.OPEN, 0L);
+        when(repository.search(List.of("o", "brien", "elm"), IncidentType.CRIME, null, 20)).thenReturn(List.of(call));
+
+        // when:
+        List<EmergencyCallDTO> result = service.searchEmergencyCalls("  O'Brien, ELM  o ", IncidentType.CRIME, null, 20);
+
+        // then:
+        assertEquals(List.of(call), result);
+        assertThrows(InvalidRequestException.class, () -> service.searchEmergencyCalls(" ,.- ", null, null, 20));
+        assertThrows(InvalidRequestException.class, () -> service.searchEmergencyCalls("elm", null, null, 101));
     }
 }
@@ -0,0 +1,107 @@
+package com.example.edvantistask.archive;
+
+import com.example.edvantistask.dto.ArchivedEmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmergencyCallArchiveFilesTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:30:00Z");
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private EmergencyCallArchiveFiles files;
+
+    @BeforeEach
+    void setUp() {
+        files = new EmergencyCallArchiveFiles(new ArchiveProperties(true, directory, "node", Duration.ofDays(90),
+                Duration.ofHours(1), Duration.ofMinutes(10), 1000, 2, 3, Duration.ofHours(12)), objectMapper);
+    }
+
+    @Test
+    void shouldReadEachCallFromItsOwnBlock() {
+        // given:
+        List<ArchivedEmergencyCallDTO> calls = calls(5);
+        List<EmergencyCallArchiveFiles.Block> blocks = new ArrayList<>();
+        try (EmergencyCallArchiveFiles.Writer writer = files.create(NOW)) {
+            blocks.addAll(writer.append(calls.subList(0, 3)));
+            blocks.addAll(writer.append(calls.subList(3, 5)));
+        }
+
+        // when:
+        List<ArchivedEmergencyCallDTO> read = LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> files.read(blocks.get((int) id - 1), id).orElseThrow())
+                .toList();
+
+        // then:
+        assertEquals(calls, read);
+        assertEquals(3, blocks.stream().map(EmergencyCallArchiveFiles.Block::offset).distinct().count());
+        assertEquals(blocks.get(0), blocks.get(1));
+        assertTrue(files.read(blocks.get(0), 3).isEmpty());
+    }
+
+    @Test
+    void shouldWriteFileThatDecompressesAsOneStream() throws IOException {
+        // given:
+        try (EmergencyCallArchiveFiles.Writer writer = files.create(NOW)) {
+            writer.append(calls(5));
+        }
+        Path file;
+        try (Stream<Path> listing = Files.list(directory)) {
+            file = listing.findFirst().orElseThrow();
+        }
+
+        // when:
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            lines = reader.lines().toList();
+        }
+
+        // then:
+        assertTrue(file.getFileName().toString().startsWith("emergency-calls-20260101T103000Z-"));
+        assertEquals(5, lines.size());
+        assertEquals(calls(5).get(4), objectMapper.readValue(lines.get(4), ArchivedEmergencyCallDTO.class));
+    }
+
+    @Test
+    void shouldRemoveFileThatReceivedNoCalls() throws IOException {
+        // when:
+        files.create(NOW).close();
+
+        // then:
+        try (Stream<Path> listing = Files.list(directory)) {
+            assertEquals(0, listing.count());
+        }
+    }
+
+    private static List<ArchivedEmergencyCallDTO> calls(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new ArchivedEmergencyCallDTO(id, "Caller " + id, id + " Main St", IncidentType.FIRE,
+                        Status.CLOSED, 2L, NOW.minus(Duration.ofDays(200)), NOW.minus(Duration.ofDays(100)), NOW))
+                .toList();
+    }
+}
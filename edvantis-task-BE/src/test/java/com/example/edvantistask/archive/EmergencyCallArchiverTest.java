@@ -0,0 +1,194 @@
+package com.example.edvantistask.archive;
+
+import com.example.edvantistask.dto.ArchivedEmergencyCallDTO;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.ArchivedEmergencyCall;
+import com.example.edvantistask.model.EmergencyCall;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.repository.ArchivedEmergencyCallRepository;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import com.example.edvantistask.repository.SchedulerLeaseRepository;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmergencyCallArchiverTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:30:00Z");
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private EmergencyCallRepository repository;
+
+    @Mock
+    private ArchivedEmergencyCallRepository archiveRepository;
+
+    @Mock
+    private SchedulerLeaseRepository leases;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ArchiveProperties properties;
+    private EmergencyCallArchiveFiles files;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        properties = new ArchiveProperties(true, directory, "node", Duration.ofDays(90), Duration.ofHours(1),
+                Duration.ofMinutes(10), 1000, 256, 3, Duration.ofHours(12));
+        files = new EmergencyCallArchiveFiles(properties, JsonMapper.builder().findAndAddModules().build());
+        meterRegistry = new SimpleMeterRegistry();
+        when(leases.acquire(eq(EmergencyCallArchiver.LEASE), eq("node"), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void shouldNeverReferenceTheBlockOfABatchWhoseTransactionFails() throws Exception {
+        // given:
+        List<EmergencyCall> calls = List.of(call(1L), call(2L));
+        when(repository.findArchivable(eq(Status.CLOSED), any(), any())).thenReturn(calls);
+        doThrow(new QueryTimeoutException("canceling statement due to statement timeout"))
+                .when(repository).deleteAllByIdInBatch(anyList());
+        EmergencyCallArchiver archiver = archiver();
+
+        // when:
+        assertThrows(QueryTimeoutException.class, archiver::archive);
+
+        // then:
+        InOrder order = inOrder(archiveRepository, repository, transactionManager);
+        order.verify(archiveRepository).saveAll(anyList());
+        order.verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        order.verify(transactionManager).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(leases, never()).release(any(), any(), any());
+        assertEquals(0, meterRegistry.counter("emergency.call.archive.archived").count());
+        try (Stream<Path> written = Files.list(directory)) {
+            assertEquals(1, written.count());
+        }
+    }
+
+    @Test
+    void shouldIndexRetriedCallsInTheBlocksOfTheRunThatMovedThem() {
+        // given:
+        List<EmergencyCall> calls = List.of(call(1L), call(2L));
+        when(repository.findArchivable(eq(Status.CLOSED), any(), any())).thenReturn(calls, calls, List.of());
+        doThrow(new QueryTimeoutException("canceling statement due to statement timeout"))
+                .doNothing()
+                .when(repository).deleteAllByIdInBatch(anyList());
+        EmergencyCallArchiver archiver = archiver();
+        assertThrows(QueryTimeoutException.class, archiver::archive);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArchivedEmergencyCall>> rolledBack = ArgumentCaptor.forClass(List.class);
+        verify(archiveRepository).saveAll(rolledBack.capture());
+        clearInvocations(archiveRepository, transactionManager);
+
+        // when:
+        int archived = archiver.archive();
+
+        // then:
+        assertEquals(2, archived);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArchivedEmergencyCall>> entries = ArgumentCaptor.forClass(List.class);
+        verify(archiveRepository).saveAll(entries.capture());
+        verify(transactionManager, never()).rollback(any());
+        for (ArchivedEmergencyCall entry : entries.getValue()) {
+            ArchivedEmergencyCallDTO read = files.read(new EmergencyCallArchiveFiles.Block(entry.getFileName(),
+                    entry.getBlockOffset(), entry.getBlockLength()), entry.getCallId()).orElseThrow();
+            assertEquals("Caller " + entry.getCallId(), read.callerName());
+        }
+        assertEquals(List.of(entries.getValue().get(0).getFileName()),
+                entries.getValue().stream().map(ArchivedEmergencyCall::getFileName).distinct().toList());
+        assertNotEquals(rolledBack.getValue().get(0).getFileName(), entries.getValue().get(0).getFileName());
+        verify(eventPublisher, times(2)).publishEvent(any(EmergencyCallEvent.class));
+        verify(leases).release(eq(EmergencyCallArchiver.LEASE), eq("node"), any());
+    }
+
+    @Test
+    void shouldNotArchiveWhileAnotherInstanceHoldsTheLease() throws Exception {
+        // given:
+        when(leases.acquire(eq(EmergencyCallArchiver.LEASE), eq("node"), any(), any())).thenReturn(0);
+        EmergencyCallArchiver archiver = archiver();
+
+        // when:
+        int archived = archiver.archive();
+
+        // then:
+        assertEquals(0, archived);
+        verifyNoInteractions(repository, archiveRepository, eventPublisher);
+        try (Stream<Path> written = Files.list(directory)) {
+            assertEquals(0, written.count());
+        }
+    }
+
+    @Test
+    void shouldStopArchivingOnceTheLeaseIsTakenOver() {
+        // given:
+        properties = new ArchiveProperties(true, directory, "node", Duration.ofDays(90), Duration.ofHours(1),
+                Duration.ofMinutes(10), 2, 256, 3, Duration.ofHours(12));
+        files = new EmergencyCallArchiveFiles(properties, JsonMapper.builder().findAndAddModules().build());
+        when(leases.acquire(eq(EmergencyCallArchiver.LEASE), eq("node"), any(), any())).thenReturn(1, 1, 0);
+        when(repository.findArchivable(eq(Status.CLOSED), any(), any())).thenReturn(List.of(call(1L), call(2L)));
+        EmergencyCallArchiver archiver = archiver();
+
+        // when:
+        int archived = archiver.archive();
+
+        // then:
+        assertEquals(2, archived);
+        verify(repository, times(1)).findArchivable(any(), any(), any());
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    private EmergencyCallArchiver archiver() {
+        return new EmergencyCallArchiver(repository, archiveRepository, leases, files, properties, eventPublisher,
+                cacheManager, transactionManager, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static EmergencyCall call(Long id) {
+        Instant longAgo = NOW.minus(Duration.ofDays(120));
+        return EmergencyCall.builder()
+                .id(id)
+                .callerName("Caller " + id)
+                .position("1 Archive Rd")
+                .incidentType(IncidentType.FIRE)
+                .status(Status.CLOSED)
+                .version(1L)
+                .createdAt(longAgo)
+                .updatedAt(longAgo)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.edvantistask.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaA;
+
+    @Mock
+    private DataSource replicaB;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaAConnection;
+
+    @Mock
+    private Connection replicaBConnection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-a", replicaA);
+        replicas.put("replica-b", replicaB);
+        routing = new ReadWriteRoutingDataSource(primary, replicas, Duration.ofMinutes(1), Duration.ofHours(1),
+                Duration.ofSeconds(1), meterRegistry);
+        routing.afterPropertiesSet();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.clearSynchronization();
+        SecurityContextHolder.clearContext();
+        routing.destroy();
+    }
+
+    @Test
+    void shouldBalanceReadOnlyTransactionsAcrossReplicasAndWriteToPrimary() throws SQLException {
+        // given:
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when:
+        Connection first = routing.getConnection();
+        Connection second = routing.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        Connection write = routing.getConnection();
+
+        // then:
+        assertEquals(replicaAConnection, first);
+        assertEquals(replicaBConnection, second);
+        assertEquals(primaryConnection, write);
+    }
+
+    @Test
+    void shouldKeepReadsOfRecentWriterOnPrimaryOnceTheWriteCommitted() throws SQLException {
+        // given:
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_WRITE"));
+        routing.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection readBeforeCommit = routing.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // when:
+        Connection alicesRead = routing.getConnection();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null, "ROLE_READ"));
+        Connection bobsRead = routing.getConnection();
+
+        // then:
+        assertNotEquals(primaryConnection, readBeforeCommit);
+        assertEquals(primaryConnection, alicesRead);
+        assertNotEquals(primaryConnection, bobsRead);
+    }
+
+    @Test
+    void shouldReadFromPrimaryInsidePrimaryReadScope() throws SQLException {
+        // given:
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when:
+        Connection scoped = ReadWriteRoutingDataSource.readFromPrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Connection unscoped = routing.getConnection();
+
+        // then:
+        assertEquals(primaryConnection, scoped);
+        assertEquals(replicaAConnection, unscoped);
+        assertEquals(0.0, meterRegistry.get("datasource.replica.fallbacks").counter().count());
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhileReplicaIsUnhealthy() throws SQLException {
+        // given:
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replicaBConnection.isValid(anyInt())).thenReturn(false);
+        routing.checkReplicas();
+
+        // when:
+        Connection read = routing.getConnection();
+
+        // then:
+        assertEquals(primaryConnection, read);
+        assertEquals(0.0, meterRegistry.get("datasource.replica.healthy").tag("replica", "replica-a").gauge().value());
+        assertEquals(1.0, meterRegistry.get("datasource.replica.fallbacks").counter().count());
+
+        // when:
+        reset(replicaA);
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        when(replicaAConnection.isValid(anyInt())).thenReturn(true);
+        routing.checkReplicas();
+
+        // then:
+        assertEquals(replicaAConnection, routing.getConnection());
+    }
+}
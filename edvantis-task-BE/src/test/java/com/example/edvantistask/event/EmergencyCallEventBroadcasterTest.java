@@ -0,0 +1,127 @@
+package com.example.edvantistask.event;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmergencyCallEventBroadcasterTest {
+
+    private ExecutorService executor;
+    private EmergencyCallEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        broadcaster = new EmergencyCallEventBroadcaster(
+                new EventStreamProperties(2, 10, 1, Duration.ofMinutes(1)), executor);
+    }
+
+    @Test
+    void shouldDeliverOnlyEventsMatchingSubscriberFilter() throws Exception {
+        // given:
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, new EventFilter(Set.of(IncidentType.CRIME), Set.of()), null);
+
+        // when:
+        broadcaster.onEmergencyCallEvent(EmergencyCallEvent.created(call(1L, IncidentType.ACCIDENT, Status.OPEN)));
+        broadcaster.onEmergencyCallEvent(EmergencyCallEvent.created(call(2L, IncidentType.CRIME, Status.OPEN)));
+        awaitDelivery();
+
+        // then:
+        assertEquals(List.of(2L), emitter.events.stream().map(EmergencyCallEvent::id).toList());
+    }
+
+    @Test
+    void shouldReplayEventsAfterLastEventIdAndResetOnUnknownId() throws Exception {
+        // given:
+        RecordingEmitter first = new RecordingEmitter();
+        broadcaster.subscribe(first, EventFilter.ALL, null);
+        broadcaster.onEmergencyCallEvent(EmergencyCallEvent.created(call(1L, IncidentType.CRIME, Status.OPEN)));
+        awaitDelivery();
+        String firstEventId = first.lastEventId();
+        broadcaster.onEmergencyCallEvent(EmergencyCallEvent.created(call(2L, IncidentType.CRIME, Status.OPEN)));
+
+        // when:
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.subscribe(resumed, EventFilter.ALL, firstEventId);
+        RecordingEmitter unknown = new RecordingEmitter();
+        broadcaster.subscribe(unknown, EventFilter.ALL, "other-1");
+        awaitDelivery();
+
+        // then:
+        assertEquals(List.of(2L), resumed.events.stream().map(EmergencyCallEvent::id).toList());
+        assertTrue(unknown.events.isEmpty());
+        assertTrue(unknown.frames.get(0).contains("event:" + EmergencyCallEventBroadcaster.RESET_EVENT));
+    }
+
+    @Test
+    void shouldDisconnectSubscriberWhoseBufferOverflows() {
+        // given:
+        executor.shutdown();
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, EventFilter.ALL, null);
+
+        // when:
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.onEmergencyCallEvent(EmergencyCallEvent.created(call(id, IncidentType.CRIME, Status.OPEN)));
+        }
+
+        // then:
+        assertTrue(emitter.completed);
+        assertEquals(0, broadcaster.getSubscriberCount());
+    }
+
+    private void awaitDelivery() throws Exception {
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    private static EmergencyCallDTO call(Long id, IncidentType incidentType, Status status) {
+        return new EmergencyCallDTO(id, "Caller " + id, "Address " + id, incidentType, status, 0L);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new ArrayList<>();
+        private final List<EmergencyCallEvent> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            StringBuilder frame = new StringBuilder();
+            for (var part : builder.build()) {
+                if (part.getData() instanceof EmergencyCallEvent event) {
+                    events.add(event);
+                } else {
+                    frame.append(part.getData());
+                }
+            }
+            frames.add(frame.toString());
+        }
+
+        private String lastEventId() {
+            return frames.get(frames.size() - 1).lines()
+                    .filter(line -> line.startsWith("id:"))
+                    .map(line -> line.substring(3))
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.edvantistask.ingest;
+
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.dto.BatchItemResult;
+import com.example.edvantistask.dto.IngestStatusDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.IngestCheckpoint;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.repository.IngestCheckpointRepository;
+import com.example.edvantistask.service.EmergencyCallService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmergencyCallIngestQueueTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private EmergencyCallService service;
+
+    @Mock
+    private IngestCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(checkpointRepository.findById("node")).thenReturn(Optional.empty());
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void shouldRejectOnlyTheRecordsTheDatabaseRefuses() throws Exception {
+        // given:
+        List<List<String>> attempts = new ArrayList<>();
+        when(service.createEmergencyCalls(anyList())).thenAnswer(invocation -> {
+            List<EmergencyCallCreateCommand> commands = invocation.getArgument(0);
+            attempts.add(commands.stream().map(EmergencyCallCreateCommand::callerName).toList());
+            if (commands.stream().anyMatch(command -> command.callerName().equals("Bad"))) {
+                throw new DataIntegrityViolationException("value too long for column caller_name");
+            }
+            return IntStream.range(0, commands.size())
+                    .mapToObj(i -> BatchItemResult.success(i, 100L + attempts.size() * 10L + i, BatchItemResult.Outcome.CREATED))
+                    .toList();
+        });
+        EmergencyCallIngestQueue queue = queue();
+        queue.start();
+
+        // when:
+        long good = queue.submit(command("Good")).trackingId();
+        long bad = queue.submit(command("Bad")).trackingId();
+        long other = queue.submit(command("Other")).trackingId();
+
+        // then:
+        awaitDone(queue, other);
+        queue.stop();
+        assertEquals(IngestStatusDTO.Status.CREATED, queue.getStatus(good).status());
+        assertEquals(IngestStatusDTO.Status.REJECTED, queue.getStatus(bad).status());
+        assertTrue(queue.getStatus(bad).errors().get(0).contains("value too long"));
+        assertEquals(IngestStatusDTO.Status.CREATED, queue.getStatus(other).status());
+        assertEquals(1, attempts.stream().filter(names -> names.equals(List.of("Bad"))).count());
+        verify(checkpointRepository).advance(eq("node"), eq(other), any());
+    }
+
+    @Test
+    void shouldRetryTransientFailures() throws Exception {
+        // given:
+        when(service.createEmergencyCalls(anyList()))
+                .thenThrow(new QueryTimeoutException("timeout", new SQLTransientConnectionException("connection lost")))
+                .thenReturn(List.of(BatchItemResult.success(0, 42L, BatchItemResult.Outcome.CREATED)));
+        EmergencyCallIngestQueue queue = queue();
+        queue.start();
+
+        // when:
+        long trackingId = queue.submit(command("Retried")).trackingId();
+
+        // then:
+        awaitDone(queue, trackingId);
+        queue.stop();
+        assertEquals(new IngestStatusDTO(trackingId, IngestStatusDTO.Status.CREATED, 42L, null), queue.getStatus(trackingId));
+        verify(service, times(2)).createEmergencyCalls(anyList());
+    }
+
+    @Test
+    void shouldRefuseBatchSizeAboveTheBatchCreateLimit() {
+        // when/then:
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> properties(1001));
+        assertTrue(error.getMessage().contains("app.ingest.batch-size"));
+    }
+
+    private EmergencyCallIngestQueue queue() {
+        return new EmergencyCallIngestQueue(properties(1000), service, checkpointRepository, new ObjectMapper(),
+                transactionManager, new SimpleMeterRegistry());
+    }
+
+    private IngestProperties properties(int batchSize) {
+        return new IngestProperties(true, directory, "node", DataSize.ofKilobytes(64), false, 100, batchSize,
+                Duration.ofMillis(10), Duration.ofMinutes(1));
+    }
+
+    private static EmergencyCallCreateCommand command(String callerName) {
+        return new EmergencyCallCreateCommand(callerName, "Queue Ln 1", IncidentType.FIRE, Status.OPEN);
+    }
+
+    private static void awaitDone(EmergencyCallIngestQueue queue, long trackingId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (queue.getStatus(trackingId).status() == IngestStatusDTO.Status.QUEUED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.edvantistask.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestLogTest {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldRecoverRecordsAfterCheckpointAcrossSegments() throws IOException {
+        // given:
+        try (IngestLog log = IngestLog.open(directory, SEGMENT_SIZE, 0, record -> fail("log should be empty"))) {
+            for (String payload : List.of("first", "second", "third", "fourth")) {
+                log.append(bytes(payload), sequence -> {});
+            }
+            log.sync(4);
+        }
+
+        // when:
+        List<IngestLog.Record> recovered = new ArrayList<>();
+        try (IngestLog log = IngestLog.open(directory, SEGMENT_SIZE, 1, recovered::add)) {
+
+            // then:
+            assertEquals(List.of(2L, 3L, 4L), recovered.stream().map(IngestLog.Record::sequence).toList());
+            assertEquals("second", new String(recovered.get(0).payload(), StandardCharsets.UTF_8));
+            assertEquals(5, log.append(bytes("fifth"), sequence -> {}));
+        }
+        assertEquals(2, segmentCount());
+    }
+
+    @Test
+    void shouldDropRecordTornByCrashAndContinueAfterLastIntactOne() throws IOException {
+        // given:
+        try (IngestLog log = IngestLog.open(directory, SEGMENT_SIZE, 0, record -> {})) {
+            log.append(bytes("intact"), sequence -> {});
+            log.append(bytes("torn"), sequence -> {});
+        }
+        Path segment = onlySegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            int tornPayloadOffset = IngestLog.HEADER_SIZE + "intact".length() + IngestLog.HEADER_SIZE;
+            channel.write(java.nio.ByteBuffer.wrap(bytes("XX")), tornPayloadOffset);
+        }
+
+        // when:
+        List<IngestLog.Record> recovered = new ArrayList<>();
+        try (IngestLog log = IngestLog.open(directory, SEGMENT_SIZE, 0, recovered::add)) {
+
+            // then:
+            assertEquals(List.of(1L), recovered.stream().map(IngestLog.Record::sequence).toList());
+            assertEquals(2, log.append(bytes("again"), sequence -> {}));
+        }
+        List<IngestLog.Record> reopened = new ArrayList<>();
+        try (IngestLog ignored = IngestLog.open(directory, SEGMENT_SIZE, 0, reopened::add)) {
+            assertEquals("again", new String(reopened.get(1).payload(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void shouldDeleteSegmentsOnceAllTheirRecordsAreReleased() throws IOException {
+        // given:
+        try (IngestLog log = IngestLog.open(directory, SEGMENT_SIZE, 0, record -> {})) {
+            for (int i = 0; i < 6; i++) {
+                log.append(bytes("record" + i), sequence -> {});
+            }
+            assertEquals(3, segmentCount());
+
+            // when:
+            log.release(4);
+
+            // then:
+            assertEquals(1, segmentCount());
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    private static byte[] bytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.edvantistask.integration;
+
+import com.example.edvantistask.archive.EmergencyCallArchiver;
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"WRITE"})
+class EmergencyCallArchiveIT {
+
+    @TempDir
+    static Path archiveDirectory;
+
+    /**
+     * Runs against its own database so the calls archived here do not disappear from the other tests' counts.
+     */
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:archivedb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("app.archive.directory", () -> archiveDirectory.toString());
+        registry.add("app.archive.min-age", () -> "30d");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmergencyCallArchiver archiver;
+
+    @Test
+    void shouldMoveOldClosedCallsToColdStorageAndFetchThemOnDemand() throws Exception {
+        // given
+        Instant longAgo = Instant.now().minus(Duration.ofDays(60));
+        EmergencyCallDTO oldClosed = create("Olive Old", IncidentType.CRIME, Status.CLOSED);
+        EmergencyCallDTO oldOpen = create("Otto Open", IncidentType.CRIME, Status.OPEN);
+        EmergencyCallDTO recentClosed = create("Rita Recent", IncidentType.CRIME, Status.CLOSED);
+        backdate(oldClosed.id(), longAgo);
+        backdate(oldOpen.id(), longAgo);
+        mockMvc.perform(get("/api/emergency-calls/{id}", oldClosed.id()))
+                .andExpect(status().isOk());
+
+        // when
+        int archived = archiver.archive();
+
+        // then
+        assertEquals(1, archived);
+        mockMvc.perform(get("/api/emergency-calls/{id}", oldClosed.id()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/emergency-calls/archive/{id}", oldClosed.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.callerName", is("Olive Old")))
+                .andExpect(jsonPath("$.status", is("CLOSED")))
+                .andExpect(jsonPath("$.createdAt", startsWith(longAgo.toString().substring(0, 10))))
+                .andExpect(jsonPath("$.archivedAt").isNotEmpty());
+        mockMvc.perform(get("/api/emergency-calls/{id}/history", oldClosed.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].type", contains("CREATED", "ARCHIVED")));
+        mockMvc.perform(get("/api/emergency-calls/{id}", oldOpen.id()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/emergency-calls/{id}", recentClosed.id()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/emergency-calls/archive/{id}", recentClosed.id()))
+                .andExpect(status().isNotFound());
+        assertEquals(0, archiver.archive());
+    }
+
+    @Test
+    void shouldListCallsCreatedWithinRange() throws Exception {
+        // given
+        Instant start = Instant.now().minus(Duration.ofDays(3));
+        EmergencyCallDTO older = create("Ada Earlier", IncidentType.ACCIDENT, Status.OPEN);
+        EmergencyCallDTO newer = create("Ben Later", IncidentType.ACCIDENT, Status.OPEN);
+        backdate(older.id(), start.minus(Duration.ofDays(1)));
+
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls")
+                        .param("createdFrom", start.toString())
+                        .param("incidentType", "ACCIDENT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", hasItem(newer.id().intValue())))
+                .andExpect(jsonPath("$.content[*].id", not(hasItem(older.id().intValue()))));
+        mockMvc.perform(get("/api/emergency-calls")
+                        .param("createdFrom", start.minus(Duration.ofDays(2)).toString())
+                        .param("createdTo", start.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(older.id().intValue())));
+        mockMvc.perform(get("/api/emergency-calls")
+                        .param("createdFrom", start.toString())
+                        .param("createdTo", start.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private EmergencyCallDTO create(String callerName, IncidentType incidentType, Status status) throws Exception {
+        String created = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new EmergencyCallCreateCommand(callerName, "1 Archive Rd", incidentType, status))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(created, EmergencyCallDTO.class);
+    }
+
+    private void backdate(Long id, Instant time) {
+        jdbcTemplate.update("UPDATE emergency_calls SET created_at = ?, updated_at = ? WHERE id = ?",
+                Timestamp.from(time), Timestamp.from(time), id);
+    }
+}
@@ -1,27 +1,45 @@
 package com.example.edvantistask.integration;
 
+import com.example.edvantistask.command.EmergencyCallBatchUpdateCommand;
 import com.example.edvantistask.command.EmergencyCallCreateCommand;
 import com.example.edvantistask.command.EmergencyCallUpdateCommand;
 import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.event.EmergencyCallEvent;
 import com.example.edvantistask.model.EmergencyCall;
 import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.OutboxMessage;
 import com.example.edvantistask.model.Status;
+import com.example.edvantistask.outbox.InMemoryEventSink;
+import com.example.edvantistask.outbox.OutboxRelay;
 import com.example.edvantistask.repository.EmergencyCallRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -30,6 +48,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @WithMockUser(username = "admin", roles = {"WRITE"})
 class EmergencyCallControllerIT {
 
+    /**
+     * Runs against its own database: contexts cached for other test classes keep their own outbox relays
+     * polling the shared one, and would deliver this class's messages to their own sinks.
+     */
+    @DynamicPropertySource
+    static void controllerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:controllerdb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -39,6 +67,12 @@ class EmergencyCallControllerIT {
     @Autowired
     private EmergencyCallRepository emergencyCallRepository;
 
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryEventSink outboxSink;
+
     @Test
     void shouldCreateEmergencyCallUsingCreateCommand() throws Exception {
         // given
@@ -194,6 +228,30 @@ class EmergencyCallControllerIT {
                 .andExpect(jsonPath("$.content[0].incidentType", is("FIRE")));
     }
 
+    @Test
+    void shouldSortOpenCallListingByTimestamps() throws Exception {
+        // given
+        var command = new EmergencyCallCreateCommand("Mia", "Street M", IncidentType.CRIME, Status.OPEN);
+        String response = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(command)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readValue(response, EmergencyCallDTO.class).id();
+
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls")
+                        .param("status", "OPEN")
+                        .param("sort", "createdAt,desc")
+                        .param("sort", "id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", is((int) id)));
+        mockMvc.perform(get("/api/emergency-calls")
+                        .param("status", "OPEN")
+                        .param("sort", "updatedAt"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void shouldReturnValidationErrorsWhenInputIsInvalid() throws Exception {
         // given
@@ -224,4 +282,546 @@ class EmergencyCallControllerIT {
         mockMvc.perform(get("/api/emergency-calls"))
                 .andExpect(status().isForbidden());
     }
+
+    @Test
+    void shouldWalkAllEmergencyCallsUsingCursor() throws Exception {
+        // given
+        List<Long> createdIds = new ArrayList<>();
+        for (String caller : List.of("Dave", "Eve", "Frank")) {
+            var command = new EmergencyCallCreateCommand(caller, "Highway 1", IncidentType.ACCIDENT, Status.OPEN);
+            String response = mockMvc.perform(post("/api/emergency-calls")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(command)))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            createdIds.add(objectMapper.readValue(response, EmergencyCallDTO.class).id());
+        }
+
+        // when
+        List<Long> seenIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/emergency-calls")
+                    .param("incidentType", "ACCIDENT")
+                    .param("limit", "2");
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+            String response = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(lessThanOrEqualTo(2))))
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(response);
+            page.get("content").forEach(call -> seenIds.add(call.get("id").asLong()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        // then
+        assertTrue(seenIds.containsAll(createdIds));
+        assertEquals(seenIds.stream().sorted().toList(), seenIds);
+    }
+
+    @Test
+    void shouldApplyStatusFilterInCursorMode() throws Exception {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (Status status : Status.values()) {
+            var command = new EmergencyCallCreateCommand("Kim", "Pier " + status, IncidentType.ACCIDENT, status);
+            String response = mockMvc.perform(post("/api/emergency-calls")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(command)))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            ids.add(objectMapper.readValue(response, EmergencyCallDTO.class).id());
+        }
+
+        // when
+        String response = mockMvc.perform(get("/api/emergency-calls")
+                        .param("status", "CLOSED")
+                        .param("createdFrom", "2000-01-01T00:00:00Z")
+                        .param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].status", everyItem(is("CLOSED"))))
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        List<Long> seenIds = new ArrayList<>();
+        objectMapper.readTree(response).get("content").forEach(call -> seenIds.add(call.get("id").asLong()));
+        assertTrue(seenIds.contains(ids.get(Status.CLOSED.ordinal())));
+        assertFalse(seenIds.contains(ids.get(Status.OPEN.ordinal())));
+    }
+
+    @Test
+    void shouldPageThroughCursorWithinCreationWindow() throws Exception {
+        // given
+        Instant from = Instant.now().minusSeconds(1);
+        List<Long> createdIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            var command = new EmergencyCallCreateCommand("Lee " + i, "Quay " + i, IncidentType.ACCIDENT, Status.CLOSED);
+            String response = mockMvc.perform(post("/api/emergency-calls")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(command)))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            createdIds.add(objectMapper.readValue(response, EmergencyCallDTO.class).id());
+        }
+        Instant to = Instant.now().plusSeconds(1);
+
+        // when
+        List<Long> seenIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/emergency-calls")
+                    .param("incidentType", "ACCIDENT")
+                    .param("status", "CLOSED")
+                    .param("createdFrom", from.toString())
+                    .param("createdTo", to.toString())
+                    .param("limit", "1");
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+            String response = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(lessThanOrEqualTo(1))))
+                    .andExpect(jsonPath("$.content[*].status", everyItem(is("CLOSED"))))
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(response);
+            page.get("content").forEach(call -> seenIds.add(call.get("id").asLong()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        // then
+        assertTrue(seenIds.containsAll(createdIds));
+        assertEquals(seenIds.stream().sorted().toList(), seenIds);
+        mockMvc.perform(get("/api/emergency-calls")
+                        .param("status", "CLOSED")
+                        .param("createdFrom", to.toString())
+                        .param("createdTo", to.plusSeconds(60).toString())
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+
+    @Test
+    void shouldRejectEmptyCreationWindowInCursorMode() throws Exception {
+        mockMvc.perform(get("/api/emergency-calls")
+                        .param("createdFrom", "2024-05-02T00:00:00Z")
+                        .param("createdTo", "2024-05-01T00:00:00Z")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/emergency-calls")
+                        .param("after", "not-a-cursor")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldStreamCsvExportOfEmergencyCalls() throws Exception {
+        // given
+        var command = new EmergencyCallCreateCommand("Smith, Anna", "Market Square", IncidentType.CRIME, Status.OPEN);
+        mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(command)))
+                .andExpect(status().isCreated());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/emergency-calls/export")
+                        .param("incidentType", "CRIME")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(startsWith("id,callerName,position,incidentType,status\n")))
+                .andExpect(content().string(containsString("\"Smith, Anna\",Market Square,CRIME,OPEN")))
+                .andExpect(content().string(not(containsString("FIRE"))));
+    }
+
+    @Test
+    void shouldCreateUpdateAndDeleteEmergencyCallsInBatch() throws Exception {
+        // given
+        var commands = List.of(
+                new EmergencyCallCreateCommand("Grace", "Bridge Rd", IncidentType.ACCIDENT, Status.OPEN),
+                new EmergencyCallCreateCommand("", "Bridge Rd", IncidentType.ACCIDENT, Status.OPEN),
+                new EmergencyCallCreateCommand("Heidi", "River St", IncidentType.CRIME, Status.OPEN)
+        );
+
+        // when
+        String createResponse = mockMvc.perform(post("/api/emergency-calls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(commands)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].outcome", is("CREATED")))
+                .andExpect(jsonPath("$[1].outcome", is("INVALID")))
+                .andExpect(jsonPath("$[1].errors[0]", is("Caller name is required")))
+                .andExpect(jsonPath("$[2].outcome", is("CREATED")))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode created = objectMapper.readTree(createResponse);
+        long graceId = created.get(0).get("id").asLong();
+        long heidiId = created.get(2).get("id").asLong();
+
+        var updates = List.of(
+                new EmergencyCallBatchUpdateCommand(graceId, "Grace", "Bridge Rd", IncidentType.ACCIDENT, Status.CLOSED, 0L),
+                new EmergencyCallBatchUpdateCommand(Long.MAX_VALUE, "Nobody", "Nowhere", IncidentType.CRIME, Status.CLOSED, null),
+                new EmergencyCallBatchUpdateCommand(heidiId, "Heidi", "River St", IncidentType.CRIME, Status.CLOSED, 3L),
+                new EmergencyCallBatchUpdateCommand(heidiId, "H".repeat(256), "River St", IncidentType.CRIME, Status.CLOSED, null)
+        );
+        mockMvc.perform(put("/api/emergency-calls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome", is("UPDATED")))
+                .andExpect(jsonPath("$[1].outcome", is("NOT_FOUND")))
+                .andExpect(jsonPath("$[2].outcome", is("CONFLICT")))
+                .andExpect(jsonPath("$[2].errors[0]", is("Emergency Call " + heidiId + " is at version 0, expected 3")))
+                .andExpect(jsonPath("$[3].outcome", is("INVALID")))
+                .andExpect(jsonPath("$[3].errors[0]", is("Caller name must be at most 255 characters")));
+
+        mockMvc.perform(delete("/api/emergency-calls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + heidiId + ", {\"id\": " + graceId + ", \"version\": 0}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome", is("DELETED")))
+                .andExpect(jsonPath("$[1].outcome", is("CONFLICT")));
+
+        // then
+        assertEquals(Status.CLOSED, emergencyCallRepository.findById(graceId).orElseThrow().getStatus());
+        assertFalse(emergencyCallRepository.findById(heidiId).isPresent());
+    }
+
+    @Test
+    void shouldServeFreshDataAfterCachedCallIsUpdatedAndDeleted() throws Exception {
+        // given
+        var createCommand = new EmergencyCallCreateCommand("Ivan", "Old Town", IncidentType.CRIME, Status.OPEN);
+        String createResponse = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCommand)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(createResponse, EmergencyCallDTO.class).id();
+        mockMvc.perform(get("/api/emergency-calls/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("OPEN")));
+
+        // when
+        var updateCommand = new EmergencyCallUpdateCommand("Ivan", "Old Town", IncidentType.CRIME, Status.CLOSED);
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateCommand)))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/api/emergency-calls/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("CLOSED")));
+        mockMvc.perform(delete("/api/emergency-calls/{id}", id))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/emergency-calls/{id}", id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldHonourConditionalRequestHeaders() throws Exception {
+        // given
+        var createCommand = new EmergencyCallCreateCommand("Judy", "Harbour", IncidentType.ACCIDENT, Status.OPEN);
+        String createResponse = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCommand)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(createResponse, EmergencyCallDTO.class).id();
+        String etag = mockMvc.perform(get("/api/emergency-calls/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        var updateCommand = new EmergencyCallUpdateCommand("Judy", "Harbour", IncidentType.ACCIDENT, Status.CLOSED);
+        String newEtag = mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateCommand)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateCommand)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/emergency-calls/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "W/" + newEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateCommand)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/api/emergency-calls/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"stale\", " + etag + ", " + newEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateCommand)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, newEtag));
+    }
+
+    @Test
+    void shouldCountCommittedChangesInStatistics() throws Exception {
+        // given
+        long openBefore = statsCount(IncidentType.CRIME, Status.OPEN);
+        long closedBefore = statsCount(IncidentType.CRIME, Status.CLOSED);
+        var createCommand = new EmergencyCallCreateCommand("Mallory", "Depot", IncidentType.CRIME, Status.OPEN);
+        String createResponse = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCommand)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(createResponse, EmergencyCallDTO.class).id();
+
+        // when
+        var updateCommand = new EmergencyCallUpdateCommand("Mallory", "Depot", IncidentType.CRIME, Status.CLOSED);
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateCommand)))
+                .andExpect(status().isOk());
+
+        // then
+        assertEquals(openBefore, statsCount(IncidentType.CRIME, Status.OPEN));
+        assertEquals(closedBefore + 1, statsCount(IncidentType.CRIME, Status.CLOSED));
+        mockMvc.perform(get("/api/emergency-calls/stats").param("buckets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(emergencyCallRepository.count()))
+                .andExpect(jsonPath("$.buckets", hasSize(24)))
+                .andExpect(jsonPath("$.buckets[23].created.CRIME", greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    void shouldSearchCallerNameAndPositionByWordPrefix() throws Exception {
+        // given
+        var byName = new EmergencyCallCreateCommand("Quentin Zarkowski", "77 Birchwood Lane", IncidentType.CRIME, Status.OPEN);
+        var byPosition = new EmergencyCallCreateCommand("Olga Brandt", "Zarkowski Plaza", IncidentType.CRIME, Status.OPEN);
+        var otherType = new EmergencyCallCreateCommand("Ivo Zarkowski", "Harbour", IncidentType.ACCIDENT, Status.OPEN);
+        for (var command : List.of(byPosition, byName, otherType)) {
+            mockMvc.perform(post("/api/emergency-calls")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(command)))
+                    .andExpect(status().isCreated());
+        }
+
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls/search").param("q", "zark").param("incidentType", "CRIME"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].callerName", is("Quentin Zarkowski")))
+                .andExpect(jsonPath("$[1].callerName", is("Olga Brandt")));
+        mockMvc.perform(get("/api/emergency-calls/search").param("q", "Zarkowski birch"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].position", is("77 Birchwood Lane")));
+        mockMvc.perform(get("/api/emergency-calls/search").param("q", "arkowski"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/emergency-calls/search").param("q", "zarkowski").param("status", "CLOSED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/emergency-calls/search").param("q", "  "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldFindEmergencyCallsByDistanceFromPoint() throws Exception {
+        // given
+        var origin = new EmergencyCallCreateCommand("Geo Origin", "-45.0000, 170.0000", IncidentType.CRIME, Status.OPEN);
+        var oneKmNorth = new EmergencyCallCreateCommand("Geo North", "-44.9910, 170.0000", IncidentType.CRIME, Status.OPEN);
+        var fiveKmNorth = new EmergencyCallCreateCommand("Geo Far", "geo:-44.9550,170.0000", IncidentType.CRIME, Status.OPEN);
+        var closedNearby = new EmergencyCallCreateCommand("Geo Closed", "-45.0020, 170.0000", IncidentType.CRIME, Status.CLOSED);
+        for (var command : List.of(fiveKmNorth, closedNearby, oneKmNorth, origin)) {
+            mockMvc.perform(post("/api/emergency-calls")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(command)))
+                    .andExpect(status().isCreated());
+        }
+
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls/nearest")
+                        .param("lat", "-45.0").param("lon", "170.0").param("k", "3").param("status", "OPEN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].call.callerName", is("Geo Origin")))
+                .andExpect(jsonPath("$[1].call.callerName", is("Geo North")))
+                .andExpect(jsonPath("$[1].distanceMeters", closeTo(1000.0, 10.0)))
+                .andExpect(jsonPath("$[2].call.callerName", is("Geo Far")));
+        mockMvc.perform(get("/api/emergency-calls/within-radius")
+                        .param("lat", "-45.0").param("lon", "170.0").param("radius", "2000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].call.callerName", contains("Geo Origin", "Geo Closed", "Geo North")));
+        mockMvc.perform(get("/api/emergency-calls/within-radius")
+                        .param("lat", "-45.0").param("lon", "170.0").param("radius", "10000").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].call.callerName", contains("Geo Origin", "Geo Closed")));
+        mockMvc.perform(get("/api/emergency-calls/within-box")
+                        .param("minLat", "-45.001").param("minLon", "169.99")
+                        .param("maxLat", "-44.95").param("maxLon", "170.01")
+                        .param("incidentType", "CRIME"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].callerName", contains("Geo Far", "Geo North", "Geo Origin")));
+        mockMvc.perform(get("/api/emergency-calls/within-radius")
+                        .param("lat", "-95.0").param("lon", "170.0").param("radius", "2000"))
+                .andExpect(status().isBadRequest());
+
+        Long closedId = emergencyCallRepository.findAll().stream()
+                .filter(call -> call.getCallerName().equals("Geo Closed"))
+                .findFirst().orElseThrow().getId();
+        var moved = new EmergencyCallUpdateCommand("Geo Closed", "Harbour Road", IncidentType.CRIME, Status.CLOSED);
+        mockMvc.perform(put("/api/emergency-calls/{id}", closedId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(moved)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/emergency-calls/within-radius")
+                        .param("lat", "-45.0").param("lon", "170.0").param("radius", "2000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].call.callerName", contains("Geo Origin", "Geo North")));
+    }
+
+    @Test
+    void shouldListOpenCallsFromMemoryAndDropThemWhenClosed() throws Exception {
+        // given
+        var createCommand = new EmergencyCallCreateCommand("Oscar Open", "Quay 9", IncidentType.ACCIDENT, Status.OPEN);
+        String createResponse = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCommand)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(createResponse, EmergencyCallDTO.class).id();
+
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls?incidentType=ACCIDENT&status=OPEN&size=1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", hasItem(id.intValue())))
+                .andExpect(jsonPath("$.content[*].status", everyItem(is("OPEN"))));
+
+        var closeCommand = new EmergencyCallUpdateCommand("Oscar Open", "Quay 9", IncidentType.ACCIDENT, Status.CLOSED);
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(closeCommand)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/emergency-calls?incidentType=ACCIDENT&status=OPEN&size=1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", not(hasItem(id.intValue()))));
+        mockMvc.perform(get("/api/emergency-calls?incidentType=ACCIDENT&status=CLOSED&size=1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", hasItem(id.intValue())));
+    }
+
+    @Test
+    void shouldRecordHistoryOfEveryChange() throws Exception {
+        // given
+        var createCommand = new EmergencyCallCreateCommand("Hannah History", "Archive Rd 1", IncidentType.CRIME, Status.OPEN);
+        String createResponse = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCommand)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(createResponse, EmergencyCallDTO.class).id();
+        var closeCommand = new EmergencyCallUpdateCommand("Hannah History", "Archive Rd 1", IncidentType.CRIME, Status.CLOSED);
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(closeCommand)))
+                .andExpect(status().isOk());
+        String deletedResponse = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new EmergencyCallCreateCommand("Rita Replay", "Archive Rd 2", IncidentType.CRIME, Status.OPEN))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long deletedId = objectMapper.readValue(deletedResponse, EmergencyCallDTO.class).id();
+        mockMvc.perform(delete("/api/emergency-calls/{id}", deletedId))
+                .andExpect(status().isNoContent());
+
+        // when
+        mockMvc.perform(get("/api/emergency-calls/{id}/history", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].type", contains("CREATED", "UPDATED")))
+                .andExpect(jsonPath("$[*].version", contains(0, 1)))
+                .andExpect(jsonPath("$[*].status", contains("OPEN", "CLOSED")))
+                .andExpect(jsonPath("$[*].actor", everyItem(is("admin"))));
+
+        // then
+        mockMvc.perform(get("/api/emergency-calls/{id}/history", deletedId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].type", contains("CREATED", "DELETED")));
+        mockMvc.perform(get("/api/emergency-calls/{id}/history", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldRelayCommittedChangesThroughTheOutboxInOrder() throws Exception {
+        // given
+        var createCommand = new EmergencyCallCreateCommand("Olga Outbox", "Relay Sq 3", IncidentType.ACCIDENT, Status.OPEN);
+        String createResponse = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCommand)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(createResponse, EmergencyCallDTO.class).id();
+        var closeCommand = new EmergencyCallUpdateCommand("Olga Outbox", "Relay Sq 3", IncidentType.ACCIDENT, Status.CLOSED);
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(closeCommand)))
+                .andExpect(status().isOk());
+
+        // when
+        List<OutboxMessage> messages = drainOutbox(id, 2);
+
+        // then
+        assertEquals(List.of(EmergencyCallEvent.Type.CREATED, EmergencyCallEvent.Type.UPDATED),
+                messages.stream().map(OutboxMessage::getType).toList());
+        JsonNode updated = objectMapper.readTree(messages.get(1).getPayload());
+        assertEquals("CLOSED", updated.path("call").path("status").asText());
+        assertEquals("OPEN", updated.path("previous").path("status").asText());
+        assertEquals(List.of(0L, 1L), messages.stream().map(OutboxMessage::getVersion).toList());
+    }
+
+    /**
+     * The scheduled relay may be delivering the same rows concurrently, so drain until the call's messages
+     * arrived or a few seconds passed.
+     */
+    private List<OutboxMessage> drainOutbox(Long callId, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (true) {
+            outboxRelay.drain();
+            List<OutboxMessage> messages = outboxSink.messages().stream()
+                    .filter(message -> message.getCallId().equals(callId))
+                    .toList();
+            if (messages.size() >= expected || System.nanoTime() > deadline) {
+                return messages;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private long statsCount(IncidentType incidentType, Status status) throws Exception {
+        String response = mockMvc.perform(get("/api/emergency-calls/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).path("counts").path(incidentType.name()).path(status.name()).asLong();
+    }
 }
@@ -0,0 +1,113 @@
+package com.example.edvantistask.integration;
+
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.dto.IngestStatusDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"WRITE"})
+class EmergencyCallIngestIT {
+
+    @TempDir
+    static Path ingestDirectory;
+
+    /**
+     * Runs against its own database so the calls created here do not show up in the other tests' counts.
+     */
+    @DynamicPropertySource
+    static void ingestProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:ingestdb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("app.ingest.enabled", () -> "true");
+        registry.add("app.ingest.directory", () -> ingestDirectory.toString());
+        registry.add("app.ingest.node-id", () -> "ingest-it");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldAcceptCreateWithRespondAsyncAndCreateItInTheBackground() throws Exception {
+        // given
+        var command = new EmergencyCallCreateCommand("Quinn Queue", "Intake Ave 1", IncidentType.ACCIDENT, Status.OPEN);
+
+        // when
+        String accepted = mockMvc.perform(post("/api/emergency-calls")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(command)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(header().string("Location", startsWith("/api/emergency-calls/ingest/")))
+                .andExpect(jsonPath("$.status", is("QUEUED")))
+                .andReturn().getResponse().getContentAsString();
+        long trackingId = objectMapper.readValue(accepted, IngestStatusDTO.class).trackingId();
+
+        // then
+        IngestStatusDTO status = awaitStatus(trackingId);
+        assertEquals(IngestStatusDTO.Status.CREATED, status.status());
+        mockMvc.perform(get("/api/emergency-calls/{id}", status.callId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.callerName", is("Quinn Queue")));
+        mockMvc.perform(get("/api/emergency-calls/ingest/{trackingId}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldValidateBeforeQueueingAndCreateSynchronouslyWithoutPreference() throws Exception {
+        // when/then
+        mockMvc.perform(post("/api/emergency-calls")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new EmergencyCallCreateCommand("", "Intake Ave 2", IncidentType.ACCIDENT, Status.OPEN))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new EmergencyCallCreateCommand("Sam Sync", "Intake Ave 3", IncidentType.ACCIDENT, Status.OPEN))))
+                .andExpect(status().isCreated());
+    }
+
+    private IngestStatusDTO awaitStatus(long trackingId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            String response = mockMvc.perform(get("/api/emergency-calls/ingest/{trackingId}", trackingId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            IngestStatusDTO status = objectMapper.readValue(response, IngestStatusDTO.class);
+            if (status.status() != IngestStatusDTO.Status.QUEUED || System.currentTimeMillis() > deadline) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
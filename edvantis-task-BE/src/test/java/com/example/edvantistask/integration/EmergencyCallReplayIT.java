@@ -0,0 +1,135 @@
+package com.example.edvantistask.integration;
+
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.command.EmergencyCallUpdateCommand;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"WRITE"})
+class EmergencyCallReplayIT {
+
+    private static final long LEGACY_ID = 900_000_001L;
+
+    /**
+     * Runs against its own database, because replaying to a past point reverts every call changed since.
+     */
+    @DynamicPropertySource
+    static void replayProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:replaydb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldRevertToPastStateWithNewChangesAndKeepCallsWithoutHistory() throws Exception {
+        // given
+        jdbcTemplate.update("INSERT INTO emergency_calls (id, caller_name, position, incident_type, status, version) "
+                + "VALUES (?, 'Lena Legacy', 'Old Town 1', 'FIRE', 'OPEN', 4)", LEGACY_ID);
+        Long id = create("Hannah History").id();
+        String history = mockMvc.perform(get("/api/emergency-calls/{id}/history", id))
+                .andReturn().getResponse().getContentAsString();
+        String createdAt = objectMapper.readTree(history).get(0).path("occurredAt").asText();
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new EmergencyCallUpdateCommand("Hannah History", "Archive Rd 1", IncidentType.CRIME, Status.CLOSED))))
+                .andExpect(status().isOk());
+        Long laterId = create("Lars Later").id();
+
+        // when
+        mockMvc.perform(post("/actuator/replay").with(user("root").roles("WRITE")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/replay").with(user("root").roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"asOf\": \"" + createdAt + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reverted", is(2)));
+
+        // then
+        mockMvc.perform(get("/api/emergency-calls/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("OPEN")))
+                .andExpect(jsonPath("$.version", is(2)));
+        mockMvc.perform(get("/api/emergency-calls/{id}/history", id))
+                .andExpect(jsonPath("$[*].type", contains("CREATED", "UPDATED", "UPDATED")))
+                .andExpect(jsonPath("$[*].version", contains(0, 1, 2)));
+        mockMvc.perform(get("/api/emergency-calls/{id}", laterId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/emergency-calls/{id}/history", laterId))
+                .andExpect(jsonPath("$[*].type", contains("CREATED", "DELETED")));
+        mockMvc.perform(get("/api/emergency-calls/{id}", LEGACY_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version", is(4)));
+        mockMvc.perform(put("/api/emergency-calls/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new EmergencyCallUpdateCommand("Hannah History", "Archive Rd 1", IncidentType.CRIME, Status.CLOSED))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version", is(3)));
+    }
+
+    @Test
+    void shouldRestoreRowsThatDriftedFromTheLog() throws Exception {
+        // given
+        EmergencyCallDTO call = create("Rita Restore");
+        jdbcTemplate.update("DELETE FROM emergency_calls WHERE id = ?", call.id());
+
+        // when
+        mockMvc.perform(post("/actuator/replay").with(user("root").roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.restored", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.reverted", is(0)));
+
+        // then
+        mockMvc.perform(get("/api/emergency-calls/{id}", call.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.callerName", is("Rita Restore")))
+                .andExpect(jsonPath("$.version", is(0)));
+    }
+
+    private EmergencyCallDTO create(String callerName) throws Exception {
+        String created = mockMvc.perform(post("/api/emergency-calls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new EmergencyCallCreateCommand(callerName, "Archive Rd 1", IncidentType.CRIME, Status.OPEN))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(created, EmergencyCallDTO.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.edvantistask.integration;
+
+import com.example.edvantistask.dto.LoginRequest;
+import com.example.edvantistask.dto.TokenResponse;
+import com.example.edvantistask.model.UserAccount;
+import com.example.edvantistask.repository.UserAccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class LoginControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        if (userAccountRepository.findByUsername("dispatcher").isEmpty()) {
+            userAccountRepository.save(UserAccount.builder()
+                    .username("dispatcher")
+                    .password(passwordEncoder.encode("dispatcher123"))
+                    .role("ROLE_READ")
+                    .build());
+        }
+    }
+
+    @Test
+    void shouldIssueTokenAndAuthenticateWithIt() throws Exception {
+        // given
+        String response = mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("dispatcher", "dispatcher123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token", notNullValue()))
+                .andExpect(jsonPath("$.tokenType", is("Bearer")))
+                .andReturn().getResponse().getContentAsString();
+        TokenResponse token = objectMapper.readValue(response, TokenResponse.class);
+
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.token()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/emergency-calls")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldRejectLoginWithInvalidPassword() throws Exception {
+        mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("dispatcher", "wrong-password"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldRejectTamperedToken() throws Exception {
+        // given
+        String response = mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("dispatcher", "dispatcher123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readValue(response, TokenResponse.class).token();
+        String tampered = token.substring(0, token.indexOf('.')) + ".AAAA" + token.substring(token.indexOf('.') + 5);
+
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+    }
+}
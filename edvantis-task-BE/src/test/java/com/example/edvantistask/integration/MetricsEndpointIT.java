@@ -0,0 +1,72 @@
+package com.example.edvantistask.integration;
+
+import com.example.edvantistask.model.UserAccount;
+import com.example.edvantistask.repository.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        if (userAccountRepository.findByUsername("monitoring").isEmpty()) {
+            userAccountRepository.save(UserAccount.builder()
+                    .username("monitoring")
+                    .password(passwordEncoder.encode("monitoring123"))
+                    .role("ROLE_ADMIN")
+                    .build());
+        }
+    }
+
+    @Test
+    void shouldExposeServiceRepositoryAuthAndHttpMetricsForScraping() throws Exception {
+        // given
+        mockMvc.perform(get("/api/emergency-calls").with(httpBasic("monitoring", "monitoring123")))
+                .andExpect(status().isOk());
+
+        // when/then
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("monitoring", "monitoring123")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("emergency_call_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"getAllEmergencyCalls\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("auth_authentications_seconds_count{")))
+                .andExpect(content().string(containsString("result=\"success\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+
+    @Test
+    void shouldRequireAdminRoleForScrapeEndpoint() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.edvantistask.integration;
+
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against two separate H2 databases, a primary and a "replica" that never receives the primary's
+ * writes, so where a read was served from is visible in its result.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingIT {
+
+    private static final String H2_OPTIONS = ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+            + "DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary" + H2_OPTIONS;
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica" + H2_OPTIONS;
+    private static final long REPLICA_ONLY_ID = 900_001L;
+    private static final long REPLICATED_ID = 900_002L;
+    private static final String INSERT_CALL = "MERGE INTO emergency_calls "
+            + "(id, caller_name, position, incident_type, status, version) KEY (id) VALUES (?, ?, ?, 'CRIME', 'OPEN', 0)";
+
+    @DynamicPropertySource
+    static void routingProperties(DynamicPropertyRegistry registry) {
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure().dataSource(replica).locations("classpath:db/migration").load().migrate();
+        new JdbcTemplate(replica).update(INSERT_CALL, REPLICA_ONLY_ID, "Rhea Replica", "Mirror Ln 1");
+        new JdbcTemplate(replica).update(INSERT_CALL, REPLICATED_ID, "Sam Stale", "Lag St 1");
+
+        registry.add("spring.datasource.url", () -> PRIMARY_URL);
+        registry.add("app.datasource.routing.enabled", () -> "true");
+        registry.add("app.datasource.routing.replicas[0].name", () -> "replica-1");
+        registry.add("app.datasource.routing.replicas[0].url", () -> REPLICA_URL);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldPopulateTheCallCacheFromThePrimary() throws Exception {
+        // given
+        jdbcTemplate.update(INSERT_CALL, REPLICATED_ID, "Sam Stale", "Lag St 1");
+        mockMvc.perform(delete("/api/emergency-calls/{id}", REPLICATED_ID).with(user("writer").roles("WRITE")))
+                .andExpect(status().isNoContent());
+
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls/{id}", REPLICATED_ID).with(user("reader").roles("READ")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/emergency-calls/{id}", REPLICA_ONLY_ID).with(user("reader").roles("READ")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldServeListingsFromReplica() throws Exception {
+        // when/then
+        mockMvc.perform(get("/api/emergency-calls").param("incidentType", "CRIME").with(user("reader").roles("READ")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].callerName", hasItem("Rhea Replica")))
+                .andExpect(jsonPath("$.totalElements", is(2)));
+    }
+
+    @Test
+    void shouldWriteToPrimaryAndPinTheWritersReadsToIt() throws Exception {
+        // given
+        var command = new EmergencyCallCreateCommand("Petra Primary", "Origin Rd 1", IncidentType.CRIME, Status.OPEN);
+
+        // when
+        String response = mockMvc.perform(post("/api/emergency-calls").with(user("writer").roles("WRITE"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(command)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(response, EmergencyCallDTO.class).id();
+
+        // then
+        mockMvc.perform(get("/api/emergency-calls").param("incidentType", "CRIME").with(user("reader").roles("READ")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].callerName", not(hasItem("Petra Primary"))));
+        mockMvc.perform(get("/api/emergency-calls").param("incidentType", "CRIME").with(user("writer").roles("WRITE")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].callerName", hasItem("Petra Primary")));
+        mockMvc.perform(get("/api/emergency-calls/{id}", id).with(user("reader").roles("READ")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.callerName", is("Petra Primary")));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.edvantistask.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryLoggingListenerTest {
+
+    private static final String SQL = "select id, caller_name from emergency_calls where id = ?";
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(QueryLoggingListener.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+        MDC.clear();
+    }
+
+    @Test
+    void shouldLogSlowQueryAtWarnEvenWhenSamplingIsOff() {
+        // given:
+        QueryLoggingListener listener = listener(0.0);
+
+        // when:
+        listener.afterQuery(execution(250, false), List.of(new QueryInfo(SQL)));
+
+        // then:
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertEquals("Slow query took 250 ms (batch size 1): " + SQL, event.getFormattedMessage());
+    }
+
+    @Test
+    void shouldLogSampledQueryAtInfoWithCorrelationId() {
+        // given:
+        QueryLoggingListener listener = listener(1.0);
+        MDC.put(CorrelationId.MDC_KEY, "req-42");
+
+        // when:
+        listener.afterQuery(execution(3, true), List.of(new QueryInfo(SQL)));
+
+        // then:
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.INFO, event.getLevel());
+        assertEquals("req-42", event.getMDCPropertyMap().get(CorrelationId.MDC_KEY));
+        assertTrue(event.getKeyValuePairs().stream().anyMatch(pair -> pair.key.equals("batchSize") && pair.value.equals(20)));
+    }
+
+    @Test
+    void shouldSkipFastQueryWhenNotSampled() {
+        // given:
+        QueryLoggingListener listener = listener(0.0);
+
+        // when:
+        listener.afterQuery(execution(3, false), List.of(new QueryInfo(SQL)));
+
+        // then:
+        assertTrue(appender.list.isEmpty());
+    }
+
+    private static QueryLoggingListener listener(double sampleRate) {
+        return new QueryLoggingListener(new QueryLogProperties(true, Duration.ofMillis(200), sampleRate, 1000));
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis, boolean batch) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMillis);
+        info.setSuccess(true);
+        info.setBatch(batch);
+        info.setBatchSize(batch ? 20 : 0);
+        return info;
+    }
+}
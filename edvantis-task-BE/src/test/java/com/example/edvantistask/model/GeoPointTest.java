@@ -0,0 +1,48 @@
+package com.example.edvantistask.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoPointTest {
+
+    @Test
+    void shouldParseCoordinatePositionsOnly() {
+        // when/then:
+        assertEquals(Optional.of(new GeoPoint(50.4501, 30.5234)), GeoPoint.parse(" 50.4501, 30.5234 "));
+        assertEquals(Optional.of(new GeoPoint(-33.8688, 151.2093)), GeoPoint.parse("geo:-33.8688;151.2093"));
+        assertEquals(Optional.empty(), GeoPoint.parse("123 Main St"));
+        assertEquals(Optional.empty(), GeoPoint.parse("91.0, 10.0"));
+        assertEquals(Optional.empty(), GeoPoint.parse(null));
+    }
+
+    @Test
+    void shouldMeasureGreatCircleDistance() {
+        // given:
+        GeoPoint kyiv = new GeoPoint(50.4501, 30.5234);
+
+        // when:
+        double toLviv = kyiv.distanceMeters(49.8397, 24.0297);
+
+        // then:
+        assertEquals(468_000, toLviv, 2_000);
+        assertEquals(0, kyiv.distanceMeters(50.4501, 30.5234), 1e-6);
+    }
+
+    @Test
+    void shouldBoundEveryPointWithinRadius() {
+        // given:
+        GeoPoint origin = new GeoPoint(60.0, 10.0);
+
+        // when:
+        GeoPoint.Box box = origin.boxAround(2_000);
+
+        // then:
+        assertEquals(2_000, origin.distanceMeters(box.maxLatitude(), 10.0), 1);
+        assertEquals(2_000, origin.distanceMeters(60.0, box.maxLongitude()), 10);
+        assertTrue(origin.distanceMeters(60.0, box.maxLongitude()) >= 2_000);
+        assertEquals(-180, new GeoPoint(89.99, 0).boxAround(5_000).minLongitude());
+    }
+}
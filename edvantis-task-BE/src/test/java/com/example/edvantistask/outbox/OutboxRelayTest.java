@@ -0,0 +1,114 @@
+package com.example.edvantistask.outbox;
+
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.OutboxMessage;
+import com.example.edvantistask.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private OutboxMessageRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldDeleteBatchOnceTheSinkAcceptedIt() {
+        // given:
+        InMemoryEventSink sink = new InMemoryEventSink(10);
+        when(repository.lockDeliverable(NOW, 500)).thenReturn(List.of(message(1L, 7L), message(2L, 8L)));
+        when(repository.findOldestCreatedAt()).thenReturn(NOW.minusSeconds(3));
+        when(repository.count()).thenReturn(4L);
+
+        // when:
+        relay(sink).drain();
+
+        // then:
+        assertEquals(List.of(1L, 2L), sink.messages().stream().map(OutboxMessage::getId).toList());
+        verify(repository).deleteByIds(List.of(1L, 2L));
+        verify(repository, never()).postpone(any(), any(), any());
+        assertEquals(2.0, meterRegistry.get("emergency.call.outbox.published").counter().count());
+        assertEquals(4.0, meterRegistry.get("emergency.call.outbox.pending").gauge().value());
+        assertEquals(3.0, meterRegistry.get("emergency.call.outbox.lag").timeGauge().value());
+    }
+
+    @Test
+    void shouldPostponeOnlyTheCallTheSinkRejects() {
+        // given:
+        List<List<Long>> offered = new ArrayList<>();
+        EmergencyCallEventSink sink = messages -> {
+            offered.add(messages.stream().map(OutboxMessage::getId).toList());
+            if (messages.stream().anyMatch(message -> message.getCallId() == 8L)) {
+                throw new IllegalStateException("pager down");
+            }
+        };
+        when(repository.lockDeliverable(NOW, 500))
+                .thenReturn(List.of(message(1L, 7L), message(2L, 8L), message(3L, 7L), message(4L, 8L)));
+
+        // when:
+        relay(sink).drain();
+
+        // then:
+        assertEquals(List.of(List.of(1L, 2L, 3L, 4L), List.of(1L, 3L), List.of(2L, 4L)), offered);
+        verify(repository).deleteByIds(List.of(1L, 3L));
+        verify(repository).postpone(eq(List.of(2L, 4L)), eq(NOW.plusSeconds(1)), contains("pager down"));
+        assertEquals(2.0, meterRegistry.get("emergency.call.outbox.failures").counter().count());
+    }
+
+    @Test
+    void shouldDoubleBackoffUpToTheMaximum() {
+        // given:
+        OutboxRelay relay = relay(messages -> {});
+
+        // when/then:
+        assertEquals(Duration.ofSeconds(1), relay.backoff(0));
+        assertEquals(Duration.ofSeconds(8), relay.backoff(3));
+        assertEquals(Duration.ofMinutes(5), relay.backoff(40));
+    }
+
+    private OutboxRelay relay(EmergencyCallEventSink sink) {
+        OutboxProperties properties = new OutboxProperties(true, "memory", Path.of("unused"), Duration.ofMillis(500),
+                500, Duration.ofSeconds(1), Duration.ofMinutes(5));
+        return new OutboxRelay(repository, sink, properties, transactionManager, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static OutboxMessage message(Long id, Long callId) {
+        return OutboxMessage.builder()
+                .id(id)
+                .callId(callId)
+                .version(id)
+                .type(EmergencyCallEvent.Type.UPDATED)
+                .payload("{}")
+                .createdAt(NOW)
+                .nextAttemptAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.edvantistask.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    private AuthenticationCache cache;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cache = new AuthenticationCache(new AuthCacheProperties(true, Duration.ofMinutes(5), 100), new SimpleMeterRegistry());
+        provider = new CachingAuthenticationProvider(delegate, cache);
+    }
+
+    @Test
+    void shouldVerifyCredentialsOnlyOnceWhileCached() {
+        // given:
+        when(delegate.authenticate(any())).thenReturn(authenticated("admin", "secret"));
+
+        // when:
+        Authentication first = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "secret"));
+        Authentication second = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "secret"));
+
+        // then:
+        assertTrue(first.isAuthenticated());
+        assertTrue(second.isAuthenticated());
+        assertEquals("admin", second.getName());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), List.copyOf(second.getAuthorities()));
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void shouldNotServeCachedEntryForDifferentPassword() {
+        // given:
+        when(delegate.authenticate(any()))
+                .thenReturn(authenticated("admin", "secret"))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "secret"));
+
+        // when/then:
+        assertThrows(BadCredentialsException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "wrong")));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void shouldVerifyAgainAfterInvalidation() {
+        // given:
+        when(delegate.authenticate(any())).thenReturn(authenticated("admin", "secret"));
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "secret"));
+
+        // when:
+        cache.invalidateAll();
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "secret"));
+
+        // then:
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private Authentication authenticated(String username, String password) {
+        return UsernamePasswordAuthenticationToken.authenticated(username, password,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.edvantistask.stats;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.dto.EmergencyCallStatsDTO;
+import com.example.edvantistask.dto.EmergencyCallVersion;
+import com.example.edvantistask.dto.IncidentBucketCount;
+import com.example.edvantistask.dto.IncidentStatusCount;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EmergencyCallStatisticsTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:30:00Z");
+
+    @Mock
+    private EmergencyCallRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldMoveCountersWithCommittedChanges() {
+        // given:
+        EmergencyCallStatistics statistics = statistics(Clock.fixed(NOW, ZoneOffset.UTC));
+        EmergencyCallDTO open = call(1L, IncidentType.FIRE, Status.OPEN);
+        EmergencyCallDTO closed = call(1L, IncidentType.FIRE, Status.CLOSED);
+
+        // when:
+        statistics.onEmergencyCallEvent(EmergencyCallEvent.created(open));
+        statistics.onEmergencyCallEvent(EmergencyCallEvent.created(call(2L, IncidentType.CRIME, Status.OPEN)));
+        statistics.onEmergencyCallEvent(EmergencyCallEvent.updated(closed, open));
+        statistics.onEmergencyCallEvent(EmergencyCallEvent.deleted(closed));
+
+        // then:
+        EmergencyCallStatsDTO stats = statistics.snapshot(false);
+        assertEquals(1, stats.total());
+        assertEquals(0, stats.counts().get(IncidentType.FIRE).get(Status.OPEN));
+        assertEquals(0, stats.counts().get(IncidentType.FIRE).get(Status.CLOSED));
+        assertEquals(1, stats.counts().get(IncidentType.CRIME).get(Status.OPEN));
+        assertNull(stats.buckets());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldReplaceCountersWithDatabaseCountsOnReconciliation() {
+        // given:
+        EmergencyCallStatistics statistics = statistics(Clock.fixed(NOW, ZoneOffset.UTC));
+        when(repository.countByIncidentTypeAndStatus())
+                .thenReturn(List.of(new IncidentStatusCount(IncidentType.ACCIDENT, Status.OPEN, 5)))
+                .thenReturn(List.of(new IncidentStatusCount(IncidentType.ACCIDENT, Status.OPEN, 7)));
+        statistics.reconcile();
+        statistics.onEmergencyCallEvent(EmergencyCallEvent.created(call(3L, IncidentType.ACCIDENT, Status.OPEN)));
+
+        // when:
+        statistics.reconcile();
+
+        // then:
+        EmergencyCallStatsDTO stats = statistics.snapshot(false);
+        assertEquals(7, stats.counts().get(IncidentType.ACCIDENT).get(Status.OPEN));
+        assertEquals(7, stats.total());
+        assertEquals(NOW, stats.reconciledAt());
+        assertEquals(1.0, meterRegistry.get("emergency.call.stats.drift").counter().count());
+    }
+
+    @Test
+    void shouldKeepChangesCommittedWhileReconciling() {
+        // given:
+        EmergencyCallStatistics statistics = statistics(Clock.fixed(NOW, ZoneOffset.UTC));
+        when(repository.countByIncidentTypeAndStatus()).thenAnswer(invocation -> {
+            statistics.onEmergencyCallEvent(EmergencyCallEvent.created(call(4L, IncidentType.FIRE, Status.OPEN)));
+            return List.of(new IncidentStatusCount(IncidentType.FIRE, Status.OPEN, 2));
+        });
+
+        // when:
+        statistics.reconcile();
+
+        // then:
+        assertEquals(3, statistics.snapshot(false).counts().get(IncidentType.FIRE).get(Status.OPEN));
+        assertEquals(1, statistics.snapshot(true).buckets().get(2).created().get(IncidentType.FIRE));
+    }
+
+    @Test
+    void shouldNotCountChangesTwiceThatTheSnapshotAlreadyContains() {
+        // given:
+        EmergencyCallStatistics statistics = statistics(Clock.fixed(NOW, ZoneOffset.UTC));
+        EmergencyCallDTO open = call(6L, IncidentType.FIRE, Status.OPEN);
+        EmergencyCallDTO closed = new EmergencyCallDTO(6L, "Caller 6", "Main St", IncidentType.FIRE, Status.CLOSED, 1L);
+        when(repository.countByIncidentTypeAndStatus()).thenAnswer(invocation -> {
+            statistics.onEmergencyCallEvent(EmergencyCallEvent.created(open));
+            statistics.onEmergencyCallEvent(EmergencyCallEvent.updated(closed, open));
+            statistics.onEmergencyCallEvent(EmergencyCallEvent.created(call(7L, IncidentType.CRIME, Status.OPEN)));
+            statistics.onEmergencyCallEvent(EmergencyCallEvent.deleted(call(7L, IncidentType.CRIME, Status.OPEN)));
+            return List.of(new IncidentStatusCount(IncidentType.FIRE, Status.OPEN, 1));
+        });
+        when(repository.findVersionsByIdIn(Set.of(6L, 7L))).thenReturn(List.of(new CallVersion(6L, 0L)));
+
+        // when:
+        statistics.reconcile();
+
+        // then:
+        EmergencyCallStatsDTO stats = statistics.snapshot(true);
+        assertEquals(0, stats.counts().get(IncidentType.FIRE).get(Status.OPEN));
+        assertEquals(1, stats.counts().get(IncidentType.FIRE).get(Status.CLOSED));
+        assertEquals(0, stats.counts().get(IncidentType.CRIME).get(Status.OPEN));
+        assertEquals(0, stats.buckets().get(2).created().get(IncidentType.FIRE));
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+    }
+
+    @Test
+    void shouldLoadCreationBucketsFromTheDatabaseOnReconciliation() {
+        // given:
+        EmergencyCallStatistics statistics = statistics(Clock.fixed(NOW, ZoneOffset.UTC));
+        long currentBucket = NOW.toEpochMilli() / Duration.ofHours(1).toMillis();
+        when(repository.countCreatedPerBucketSince(Instant.parse("2026-01-01T08:00:00Z"), Duration.ofHours(1).toMillis()))
+                .thenReturn(List.of(new BucketCount(IncidentType.CRIME, currentBucket - 2, 4),
+                        new BucketCount(IncidentType.FIRE, currentBucket, 6)));
+
+        // when:
+        statistics.reconcile();
+        statistics.onEmergencyCallEvent(EmergencyCallEvent.created(call(5L, IncidentType.FIRE, Status.OPEN)));
+
+        // then:
+        List<EmergencyCallStatsDTO.Bucket> buckets = statistics.snapshot(true).buckets();
+        assertEquals(4, buckets.get(0).created().get(IncidentType.CRIME));
+        assertEquals(0, buckets.get(1).created().get(IncidentType.CRIME));
+        assertEquals(7, buckets.get(2).created().get(IncidentType.FIRE));
+    }
+
+    @Test
+    void shouldCountCreationsPerTimeBucket() {
+        // given:
+        MutableClock clock = new MutableClock(NOW);
+        EmergencyCallStatistics statistics = statistics(clock);
+        statistics.onEmergencyCallEvent(EmergencyCallEvent.created(call(1L, IncidentType.FIRE, Status.OPEN)));
+        clock.instant = NOW.plus(Duration.ofHours(1));
+        statistics.onEmergencyCallEvent(EmergencyCallEvent.created(call(2L, IncidentType.FIRE, Status.OPEN)));
+        statistics.onEmergencyCallEvent(EmergencyCallEvent.created(call(3L, IncidentType.CRIME, Status.OPEN)));
+
+        // when:
+        List<EmergencyCallStatsDTO.Bucket> buckets = statistics.snapshot(true).buckets();
+
+        // then:
+        assertEquals(3, buckets.size());
+        assertEquals(Instant.parse("2026-01-01T11:00:00Z"), buckets.get(2).start());
+        assertEquals(1, buckets.get(2).created().get(IncidentType.FIRE));
+        assertEquals(1, buckets.get(2).created().get(IncidentType.CRIME));
+        assertEquals(1, buckets.get(1).created().get(IncidentType.FIRE));
+        assertEquals(0, buckets.get(0).created().get(IncidentType.FIRE));
+    }
+
+    private EmergencyCallStatistics statistics(Clock clock) {
+        return new EmergencyCallStatistics(repository, new StatsProperties(Duration.ofMinutes(5), Duration.ofHours(1), 3),
+                transactionManager, meterRegistry, clock);
+    }
+
+    private static EmergencyCallDTO call(Long id, IncidentType incidentType, Status status) {
+        return new EmergencyCallDTO(id, "Caller " + id, "Main St", incidentType, status, 0L);
+    }
+
+    private record BucketCount(IncidentType getIncidentType, long getBucket, long getCreated) implements IncidentBucketCount {}
+
+    private record CallVersion(Long getId, Long getVersion) implements EmergencyCallVersion {}
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.edvantistask.store;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.event.EmergencyCallEvent;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.repository.EmergencyCallRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OpenEmergencyCallStoreTest {
+
+    @Mock
+    private EmergencyCallRepository repository;
+
+    private OpenEmergencyCallStore store;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        store = new OpenEmergencyCallStore(repository, new OpenCallStoreProperties(true, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldServeLoadedOpenCallsByTypeAndSortOrder() {
+        // given:
+        when(repository.findAllDtosByStatus(Status.OPEN)).thenReturn(List.of(
+                call(3L, "Carol", IncidentType.FIRE, Status.OPEN, 0L),
+                call(1L, "Alice", IncidentType.CRIME, Status.OPEN, 0L),
+                call(2L, "Bob", IncidentType.FIRE, Status.OPEN, 0L)));
+
+        // when:
+        store.refresh();
+
+        // then:
+        assertTrue(store.isReady());
+        Page<EmergencyCallDTO> fire = store.findOpen(IncidentType.FIRE, PageRequest.of(0, 1));
+        assertEquals(2, fire.getTotalElements());
+        assertEquals(List.of(2L), ids(fire));
+        Page<EmergencyCallDTO> all = store.findOpen(null, PageRequest.of(0, 10, Sort.by(Sort.Order.desc("callerName"))));
+        assertEquals(List.of(3L, 2L, 1L), ids(all));
+    }
+
+    @Test
+    void shouldFollowCommittedChangesAndIgnoreStaleEvents() {
+        // given:
+        when(repository.findAllDtosByStatus(Status.OPEN)).thenReturn(List.of());
+        store.refresh();
+        EmergencyCallDTO opened = call(5L, "Eve", IncidentType.FIRE, Status.OPEN, 0L);
+        EmergencyCallDTO moved = call(5L, "Eve", IncidentType.ACCIDENT, Status.OPEN, 1L);
+        EmergencyCallDTO closed = call(5L, "Eve", IncidentType.ACCIDENT, Status.CLOSED, 2L);
+
+        // when:
+        store.onEmergencyCallEvent(EmergencyCallEvent.created(opened));
+        store.onEmergencyCallEvent(EmergencyCallEvent.updated(moved, opened));
+        List<Long> accidentsWhileOpen = ids(store.findOpen(IncidentType.ACCIDENT, PageRequest.of(0, 10)));
+        store.onEmergencyCallEvent(EmergencyCallEvent.updated(closed, moved));
+        store.onEmergencyCallEvent(EmergencyCallEvent.updated(moved, opened));
+
+        // then:
+        assertEquals(List.of(5L), accidentsWhileOpen);
+        assertEquals(0, store.size());
+        assertEquals(0, store.findOpen(IncidentType.FIRE, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void shouldStayUnreadyWhenDisabled() {
+        // given:
+        store = new OpenEmergencyCallStore(repository, new OpenCallStoreProperties(false, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+
+        // when:
+        store.refresh();
+
+        // then:
+        assertFalse(store.isReady());
+        verifyNoInteractions(repository);
+    }
+
+    private static List<Long> ids(Page<EmergencyCallDTO> page) {
+        return page.getContent().stream().map(EmergencyCallDTO::id).toList();
+    }
+
+    private static EmergencyCallDTO call(Long id, String callerName, IncidentType incidentType, Status status, Long version) {
+        return new EmergencyCallDTO(id, callerName, "Main St", incidentType, status, version);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.edvantistask.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveEmergencyCallApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveEmergencyCallApplication.class, args);
+    }
+
+}
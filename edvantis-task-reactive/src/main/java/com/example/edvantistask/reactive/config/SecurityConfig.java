@@ -0,0 +1,74 @@
+package com.example.edvantistask.reactive.config;
+
+import com.example.edvantistask.reactive.security.TokenAuthenticationWebFilter;
+import com.example.edvantistask.security.TokenProperties;
+import com.example.edvantistask.security.TokenService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+import static org.springframework.security.config.Customizer.withDefaults;
+
+/**
+ * Same access rules as the servlet application. Basic credentials are checked against the shared account table;
+ * the BCrypt comparison runs on the bounded elastic scheduler so it never stalls the event loop.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@EnableConfigurationProperties(TokenProperties.class)
+public class SecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, TokenService tokenService) {
+        return http
+                .cors(withDefaults())
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers(HttpMethod.GET, "/api/emergency-calls/**").hasAnyRole("READ", "WRITE", "USER", "ADMIN")
+                        .pathMatchers(HttpMethod.POST, "/api/emergency-calls/**").hasAnyRole("WRITE", "USER", "ADMIN")
+                        .pathMatchers(HttpMethod.PUT, "/api/emergency-calls/**").hasAnyRole("WRITE", "USER", "ADMIN")
+                        .pathMatchers(HttpMethod.DELETE, "/api/emergency-calls/**").hasAnyRole("WRITE", "USER", "ADMIN")
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(new TokenAuthenticationWebFilter(tokenService), SecurityWebFiltersOrder.AUTHENTICATION)
+                .httpBasic(withDefaults())
+                .build();
+    }
+
+    @Bean
+    public TokenService tokenService(TokenProperties tokenProperties) {
+        return new TokenService(tokenProperties);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(List.of("http://localhost:3000"));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("*"));
+        configuration.setAllowCredentials(true);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.edvantistask.reactive.controller;
+
+import com.example.edvantistask.command.EmergencyCallBatchDeleteCommand;
+import com.example.edvantistask.command.EmergencyCallBatchUpdateCommand;
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.command.EmergencyCallUpdateCommand;
+import com.example.edvantistask.controller.EntityTags;
+import com.example.edvantistask.dto.BatchItemResult;
+import com.example.edvantistask.dto.CursorPage;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.reactive.service.ReactiveEmergencyCallExportService;
+import com.example.edvantistask.reactive.service.ReactiveEmergencyCallService;
+import com.example.edvantistask.service.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/emergency-calls")
+@RequiredArgsConstructor
+public class ReactiveEmergencyCallController {
+
+    private final ReactiveEmergencyCallService service;
+    private final ReactiveEmergencyCallExportService exportService;
+
+    @PostMapping
+    public Mono<ResponseEntity<EmergencyCallDTO>> createEmergencyCall(@Validated @RequestBody EmergencyCallCreateCommand command) {
+        return service.createEmergencyCall(command).map(created -> new ResponseEntity<>(created, HttpStatus.CREATED));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<BatchItemResult>>> createEmergencyCalls(@RequestBody List<EmergencyCallCreateCommand> commands) {
+        return service.createEmergencyCalls(commands).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/batch")
+    public Mono<ResponseEntity<List<BatchItemResult>>> updateEmergencyCalls(@RequestBody List<EmergencyCallBatchUpdateCommand> commands) {
+        return service.updateEmergencyCalls(commands).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/batch")
+    public Mono<ResponseEntity<List<BatchItemResult>>> deleteEmergencyCalls(@RequestBody List<EmergencyCallBatchDeleteCommand> commands) {
+        return service.deleteEmergencyCalls(commands).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EmergencyCallDTO>> getEmergencyCall(@PathVariable Long id) {
+        return service.getEmergencyCall(id).map(dto -> ResponseEntity.ok().eTag(EntityTags.of(dto)).body(dto));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<EmergencyCallDTO>> updateEmergencyCall(@PathVariable Long id,
+                                                                      @Validated @RequestBody EmergencyCallUpdateCommand command,
+                                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.updateEmergencyCall(id, command, EntityTags.parseVersions(ifMatch))
+                .map(updated -> ResponseEntity.ok().eTag(EntityTags.of(updated)).body(updated));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteEmergencyCall(@PathVariable Long id,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.deleteEmergencyCall(id, EntityTags.parseVersions(ifMatch))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Page<EmergencyCallDTO>>> getAllEmergencyCalls(
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            Pageable pageable) {
+        return service.getAllEmergencyCalls(incidentType, pageable).map(page -> {
+            String etag = EntityTags.ofCollection(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
+            return ResponseEntity.ok().eTag(etag).body(page);
+        });
+    }
+
+    /**
+     * Streams every matching call as newline-delimited JSON or Server-Sent Events instead of a page. Rows are read
+     * from the database only as fast as the client consumes them.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<EmergencyCallDTO> streamEmergencyCalls(
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType) {
+        return service.streamEmergencyCalls(incidentType);
+    }
+
+    @GetMapping(params = "limit", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPage<EmergencyCallDTO>>> getEmergencyCallsAfter(
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam("limit") int limit) {
+        return service.getEmergencyCallsAfter(incidentType, after, limit)
+                .map(page -> ResponseEntity.ok().eTag(EntityTags.ofCollection(page.content(), page.nextCursor())).body(page));
+    }
+
+    @GetMapping(value = "/export", params = "format!=CSV")
+    public ResponseEntity<Flux<EmergencyCallDTO>> exportEmergencyCalls(
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType) {
+        return exportResponse(ExportFormat.NDJSON).body(exportService.exportNdjson(incidentType));
+    }
+
+    @GetMapping(value = "/export", params = "format=CSV")
+    public ResponseEntity<Flux<String>> exportEmergencyCallsAsCsv(
+            @RequestParam(value = "incidentType", required = false) IncidentType incidentType) {
+        return exportResponse(ExportFormat.CSV).body(exportService.exportCsv(incidentType));
+    }
+
+    private static ResponseEntity.BodyBuilder exportResponse(ExportFormat format) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("emergency-calls." + format.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+    }
+}
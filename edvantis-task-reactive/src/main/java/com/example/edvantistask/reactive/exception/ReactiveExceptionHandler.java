@@ -0,0 +1,83 @@
+package com.example.edvantistask.reactive.exception;
+
+import com.example.edvantistask.exception.ApiError;
+import com.example.edvantistask.exception.InvalidRequestException;
+import com.example.edvantistask.exception.PreconditionFailedException;
+import com.example.edvantistask.exception.ResourceNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Maps errors to the same {@link ApiError} bodies and status codes as the servlet application's
+ * {@code GlobalExceptionHandler}.
+ */
+@ControllerAdvice
+public class ReactiveExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @Override
+    protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(
+            WebExchangeBindException ex,
+            HttpHeaders headers,
+            HttpStatusCode status,
+            ServerWebExchange exchange) {
+
+        List<String> errors = ex.getBindingResult().getFieldErrors()
+                .stream()
+                .map(FieldError::getDefaultMessage)
+                .toList();
+        ApiError apiError = new ApiError(status, "Validation error", errors);
+        return Mono.just(new ResponseEntity<>(apiError, headers, status));
+    }
+
+    @Override
+    protected Mono<ResponseEntity<Object>> handleServerWebInputException(
+            ServerWebInputException ex,
+            HttpHeaders headers,
+            HttpStatusCode status,
+            ServerWebExchange exchange) {
+
+        ApiError apiError = new ApiError(status, "Malformed request", List.of(ex.getReason() != null ? ex.getReason() : ex.getMessage()));
+        return Mono.just(new ResponseEntity<>(apiError, headers, status));
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ApiError> handleResourceNotFound(ResourceNotFoundException ex) {
+        HttpStatusCode notFoundStatus = HttpStatus.NOT_FOUND;
+        ApiError apiError = new ApiError(notFoundStatus, ex.getMessage(), List.of("Resource not found"));
+        return new ResponseEntity<>(apiError, notFoundStatus);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiError> handlePreconditionFailed(PreconditionFailedException ex) {
+        HttpStatusCode preconditionFailedStatus = HttpStatus.PRECONDITION_FAILED;
+        ApiError apiError = new ApiError(preconditionFailedStatus, ex.getMessage(), List.of("Resource has been modified"));
+        return new ResponseEntity<>(apiError, preconditionFailedStatus);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        HttpStatusCode conflictStatus = HttpStatus.CONFLICT;
+        ApiError apiError = new ApiError(conflictStatus, "Emergency Call was modified concurrently", List.of("Concurrent modification"));
+        return new ResponseEntity<>(apiError, conflictStatus);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiError> handleInvalidRequest(InvalidRequestException ex) {
+        HttpStatusCode badRequestStatus = HttpStatus.BAD_REQUEST;
+        ApiError apiError = new ApiError(badRequestStatus, ex.getMessage(), List.of("Invalid request"));
+        return new ResponseEntity<>(apiError, badRequestStatus);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.edvantistask.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out emergency call ids from {@code emergency_calls_seq} the same way Hibernate's pooled optimizer does in
+ * the servlet application: every sequence value is the upper bound of a block of {@value #BLOCK_SIZE} ids. Both
+ * applications can therefore insert into the same table without colliding, with one round trip per block.
+ * Concurrent refills may discard the rest of a block, which only leaves gaps.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmergencyCallIdAllocator {
+
+    static final int BLOCK_SIZE = 50;
+
+    private final DatabaseClient client;
+    private final AtomicReference<IdBlock> current = new AtomicReference<>(new IdBlock(1, 0));
+
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            long id = current.get().take();
+            if (id > 0) {
+                return Mono.just(id);
+            }
+            return client.sql("SELECT nextval('emergency_calls_seq')")
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(hi -> {
+                        IdBlock block = new IdBlock(Math.max(1, hi - BLOCK_SIZE + 1), hi);
+                        long first = block.take();
+                        current.set(block);
+                        return first;
+                    });
+        });
+    }
+
+    private static final class IdBlock {
+
+        private final AtomicLong next;
+        private final long last;
+
+        private IdBlock(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+
+        private long take() {
+            long id = next.getAndIncrement();
+            return id <= last ? id : -1;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.edvantistask.reactive.repository;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.exception.InvalidRequestException;
+import com.example.edvantistask.model.EmergencyCall;
+import com.example.edvantistask.model.GeoPoint;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and writes {@code emergency_calls} with plain SQL over R2DBC. Query rows map straight to {@link EmergencyCallDTO};
+ * writes use the shared {@link EmergencyCall} as a plain object and keep the servlet application's optimistic locking
+ * contract by bumping {@code version} on every update.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmergencyCallR2dbcRepository {
+
+    private static final String SELECT = "SELECT id, caller_name, position, incident_type, status, version FROM emergency_calls";
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "callerName", "caller_name",
+            "position", "position",
+            "incidentType", "incident_type",
+            "status", "status");
+
+    private final DatabaseClient client;
+    private final EmergencyCallIdAllocator idAllocator;
+
+    public Mono<EmergencyCallDTO> findById(long id) {
+        return client.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(EmergencyCallR2dbcRepository::toDto)
+                .one();
+    }
+
+    public Mono<EmergencyCall> findEntityById(long id) {
+        return client.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(EmergencyCallR2dbcRepository::toEntity)
+                .one();
+    }
+
+    public Flux<EmergencyCall> findAllEntitiesById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return client.sql(SELECT + " WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(EmergencyCallR2dbcRepository::toEntity)
+                .all();
+    }
+
+    public Flux<EmergencyCallDTO> findPage(IncidentType incidentType, Pageable pageable) {
+        String where = incidentType != null ? " WHERE incident_type = :incidentType" : "";
+        DatabaseClient.GenericExecuteSpec spec = client.sql(SELECT + where + orderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset")
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset());
+        if (incidentType != null) {
+            spec = spec.bind("incidentType", incidentType.name());
+        }
+        return spec.map(EmergencyCallR2dbcRepository::toDto).all();
+    }
+
+    public Mono<Long> count(IncidentType incidentType) {
+        if (incidentType == null) {
+            return client.sql("SELECT COUNT(*) FROM emergency_calls")
+                    .map(row -> row.get(0, Long.class))
+                    .one();
+        }
+        return client.sql("SELECT COUNT(*) FROM emergency_calls WHERE incident_type = :incidentType")
+                .bind("incidentType", incidentType.name())
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Flux<EmergencyCallDTO> findAfter(IncidentType incidentType, long afterId, int limit) {
+        String type = incidentType != null ? " AND incident_type = :incidentType" : "";
+        DatabaseClient.GenericExecuteSpec spec = client.sql(SELECT + " WHERE id > :afterId" + type + " ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit);
+        if (incidentType != null) {
+            spec = spec.bind("incidentType", incidentType.name());
+        }
+        return spec.map(EmergencyCallR2dbcRepository::toDto).all();
+    }
+
+    /**
+     * Streams every matching row in id order. Rows are fetched from the server {@value #STREAM_FETCH_SIZE} at a
+     * time as downstream demand arrives, so a slow consumer holds back the query instead of buffering the table.
+     */
+    public Flux<EmergencyCallDTO> streamAll(IncidentType incidentType) {
+        String where = incidentType != null ? " WHERE incident_type = :incidentType" : "";
+        DatabaseClient.GenericExecuteSpec spec = client.sql(SELECT + where + " ORDER BY id")
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE));
+        if (incidentType != null) {
+            spec = spec.bind("incidentType", incidentType.name());
+        }
+        return spec.map(EmergencyCallR2dbcRepository::toDto).all();
+    }
+
+    /**
+     * Inserts a new call, assigning its id from the shared sequence and its initial version.
+     */
+    public Mono<EmergencyCall> insert(EmergencyCall call) {
+        return idAllocator.nextId().flatMap(id -> bindCoordinates(client.sql("""
+                        INSERT INTO emergency_calls (id, caller_name, position, incident_type, status, version, latitude, longitude)
+                        VALUES (:id, :callerName, :position, :incidentType, :status, 0, :latitude, :longitude)""")
+                        .bind("id", id)
+                        .bind("callerName", call.getCallerName())
+                        .bind("position", call.getPosition())
+                        .bind("incidentType", call.getIncidentType().name())
+                        .bind("status", call.getStatus().name()), call.getPosition())
+                .fetch()
+                .rowsUpdated()
+                .then(Mono.fromSupplier(() -> {
+                    call.setId(id);
+                    call.setVersion(0L);
+                    return call;
+                })));
+    }
+
+    /**
+     * Writes the call if its row is still at {@code call.getVersion()} and advances the version on success;
+     * emits {@code false} when another writer got there first.
+     */
+    public Mono<Boolean> update(EmergencyCall call) {
+        return bindCoordinates(client.sql("""
+                        UPDATE emergency_calls
+                        SET caller_name = :callerName, position = :position, incident_type = :incidentType,
+                            status = :status, latitude = :latitude, longitude = :longitude, version = version + 1,
+                            updated_at = CURRENT_TIMESTAMP
+                        WHERE id = :id AND version = :version""")
+                        .bind("callerName", call.getCallerName())
+                        .bind("position", call.getPosition())
+                        .bind("incidentType", call.getIncidentType().name())
+                        .bind("status", call.getStatus().name())
+                        .bind("id", call.getId())
+                        .bind("version", call.getVersion()), call.getPosition())
+                .fetch()
+                .rowsUpdated()
+                .map(updated -> {
+                    if (updated != 1) {
+                        return false;
+                    }
+                    call.setVersion(call.getVersion() + 1);
+                    return true;
+                });
+    }
+
+    public Mono<Boolean> delete(long id, long version) {
+        return client.sql("DELETE FROM emergency_calls WHERE id = :id AND version = :version")
+                .bind("id", id)
+                .bind("version", version)
+                .fetch()
+                .rowsUpdated()
+                .map(deleted -> deleted == 1);
+    }
+
+    /**
+     * Stores the coordinates parsed from the position, as the servlet application's entity does before every write.
+     */
+    private static DatabaseClient.GenericExecuteSpec bindCoordinates(DatabaseClient.GenericExecuteSpec spec, String position) {
+        GeoPoint point = GeoPoint.parse(position).orElse(null);
+        if (point == null) {
+            return spec.bindNull("latitude", Double.class).bindNull("longitude", Double.class);
+        }
+        return spec.bind("latitude", point.latitude()).bind("longitude", point.longitude());
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return " ORDER BY id";
+        }
+        return sort.stream()
+                .map(order -> {
+                    String column = SORTABLE_COLUMNS.get(order.getProperty());
+                    if (column == null) {
+                        throw new InvalidRequestException("Cannot sort by: " + order.getProperty());
+                    }
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ", id"));
+    }
+
+    private static EmergencyCall toEntity(Readable row) {
+        return EmergencyCall.builder()
+                .id(row.get("id", Long.class))
+                .callerName(row.get("caller_name", String.class))
+                .position(row.get("position", String.class))
+                .incidentType(IncidentType.valueOf(row.get("incident_type", String.class)))
+                .status(Status.valueOf(row.get("status", String.class)))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private static EmergencyCallDTO toDto(Readable row) {
+        return new EmergencyCallDTO(
+                row.get("id", Long.class),
+                row.get("caller_name", String.class),
+                row.get("position", String.class),
+                IncidentType.valueOf(row.get("incident_type", String.class)),
+                Status.valueOf(row.get("status", String.class)),
+                row.get("version", Long.class)
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.edvantistask.reactive.security;
+
+import com.example.edvantistask.security.TokenService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Accepts the bearer tokens issued by the servlet application's {@code /api/login}; the nodes only need to share
+ * {@code app.security.token.secret}. Verification is CPU-only, so it runs inline on the event loop.
+ */
+public class TokenAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public TokenAuthenticationWebFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return chain.filter(exchange);
+        }
+        return tokenService.verify(header.substring(BEARER_PREFIX.length()).trim())
+                .map(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)))
+                .orElseGet(() -> chain.filter(exchange));
+    }
+}
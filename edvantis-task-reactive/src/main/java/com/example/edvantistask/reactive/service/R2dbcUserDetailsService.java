@@ -0,0 +1,34 @@
+package com.example.edvantistask.reactive.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+/**
+ * Looks up the accounts registered through the servlet application in the shared {@code user_accounts} table.
+ */
+@Service
+@RequiredArgsConstructor
+public class R2dbcUserDetailsService implements ReactiveUserDetailsService {
+
+    private final DatabaseClient client;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return client.sql("SELECT username, password, role FROM user_accounts WHERE username = :username")
+                .bind("username", username)
+                .map(row -> new User(
+                        row.get("username", String.class),
+                        row.get("password", String.class),
+                        Collections.singletonList(new SimpleGrantedAuthority(row.get("role", String.class)))))
+                .one()
+                .cast(UserDetails.class);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.edvantistask.reactive.service;
+
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.reactive.repository.EmergencyCallR2dbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streams emergency calls for export straight from the database. Rows are pulled only as fast as the client reads
+ * the response, so memory use stays flat however large the export is.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveEmergencyCallExportService {
+
+    private static final String CSV_HEADER = "id,callerName,position,incidentType,status\n";
+
+    private final EmergencyCallR2dbcRepository repository;
+
+    public Flux<EmergencyCallDTO> exportNdjson(IncidentType incidentType) {
+        return repository.streamAll(incidentType);
+    }
+
+    public Flux<String> exportCsv(IncidentType incidentType) {
+        return Flux.concat(Flux.just(CSV_HEADER), repository.streamAll(incidentType).map(ReactiveEmergencyCallExportService::csvLine));
+    }
+
+    private static String csvLine(EmergencyCallDTO dto) {
+        return dto.id() + "," + csvField(dto.callerName()) + "," + csvField(dto.position()) + ","
+                + dto.incidentType().name() + "," + dto.status().name() + "\n";
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.edvantistask.reactive.service;
+
+import com.example.edvantistask.command.EmergencyCallBatchDeleteCommand;
+import com.example.edvantistask.command.EmergencyCallBatchUpdateCommand;
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.command.EmergencyCallUpdateCommand;
+import com.example.edvantistask.dto.BatchItemResult;
+import com.example.edvantistask.dto.CursorPage;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ReactiveEmergencyCallService {
+    Mono<EmergencyCallDTO> createEmergencyCall(EmergencyCallCreateCommand command);
+    Mono<EmergencyCallDTO> updateEmergencyCall(Long id, EmergencyCallUpdateCommand command, Set<Long> expectedVersions);
+    Mono<Void> deleteEmergencyCall(Long id, Set<Long> expectedVersions);
+    Mono<EmergencyCallDTO> getEmergencyCall(Long id);
+    Mono<Page<EmergencyCallDTO>> getAllEmergencyCalls(IncidentType incidentType, Pageable pageable);
+    Flux<EmergencyCallDTO> streamEmergencyCalls(IncidentType incidentType);
+    Mono<CursorPage<EmergencyCallDTO>> getEmergencyCallsAfter(IncidentType incidentType, String cursor, int limit);
+    Mono<List<BatchItemResult>> createEmergencyCalls(List<EmergencyCallCreateCommand> commands);
+    Mono<List<BatchItemResult>> updateEmergencyCalls(List<EmergencyCallBatchUpdateCommand> commands);
+    Mono<List<BatchItemResult>> deleteEmergencyCalls(List<EmergencyCallBatchDeleteCommand> commands);
+}
@@ -0,0 +1,252 @@
+package com.example.edvantistask.reactive.service;
+
+import com.example.edvantistask.command.EmergencyCallBatchDeleteCommand;
+import com.example.edvantistask.command.EmergencyCallBatchUpdateCommand;
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.command.EmergencyCallUpdateCommand;
+import com.example.edvantistask.dto.BatchItemResult;
+import com.example.edvantistask.dto.BatchItemResult.Outcome;
+import com.example.edvantistask.dto.CursorPage;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.exception.InvalidRequestException;
+import com.example.edvantistask.exception.PreconditionFailedException;
+import com.example.edvantistask.exception.ResourceNotFoundException;
+import com.example.edvantistask.model.EmergencyCall;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.reactive.repository.EmergencyCallR2dbcRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking counterpart of the servlet application's {@code EmergencyCallServiceImpl}. It applies the same
+ * commands, validation messages, version checks and batch semantics, with R2DBC in place of JPA.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveEmergencyCallServiceImpl implements ReactiveEmergencyCallService {
+
+    private static final int MAX_CURSOR_LIMIT = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final EmergencyCallR2dbcRepository repository;
+    private final Validator validator;
+
+    @Override
+    @Transactional
+    public Mono<EmergencyCallDTO> createEmergencyCall(EmergencyCallCreateCommand command) {
+        return repository.insert(command.toEntity()).map(EmergencyCallDTO::fromEntity);
+    }
+
+    @Override
+    @Transactional
+    public Mono<EmergencyCallDTO> updateEmergencyCall(Long id, EmergencyCallUpdateCommand command, Set<Long> expectedVersions) {
+        return getEmergencyCallById(id)
+                .flatMap(call -> {
+                    checkVersion(call, expectedVersions);
+                    return repository.update(command.applyUpdate(call))
+                            .flatMap(updated -> updated ? Mono.just(EmergencyCallDTO.fromEntity(call)) : concurrentModification());
+                });
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteEmergencyCall(Long id, Set<Long> expectedVersions) {
+        return getEmergencyCallById(id)
+                .flatMap(call -> {
+                    checkVersion(call, expectedVersions);
+                    return repository.delete(call.getId(), call.getVersion())
+                            .flatMap(deleted -> deleted ? Mono.<Void>empty() : concurrentModification());
+                });
+    }
+
+    @Override
+    public Mono<EmergencyCallDTO> getEmergencyCall(Long id) {
+        return repository.findById(id).switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<Page<EmergencyCallDTO>> getAllEmergencyCalls(IncidentType incidentType, Pageable pageable) {
+        return Mono.zip(repository.findPage(incidentType, pageable).collectList(), repository.count(incidentType))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    @Override
+    public Flux<EmergencyCallDTO> streamEmergencyCalls(IncidentType incidentType) {
+        return repository.streamAll(incidentType);
+    }
+
+    @Override
+    public Mono<CursorPage<EmergencyCallDTO>> getEmergencyCallsAfter(IncidentType incidentType, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_CURSOR_LIMIT) {
+            return Mono.error(new InvalidRequestException(String.format("Limit must be between 1 and %d", MAX_CURSOR_LIMIT)));
+        }
+        return Mono.fromCallable(() -> decodeCursor(cursor))
+                .flatMap(afterId -> repository.findAfter(incidentType, afterId, limit + 1).collectList())
+                .map(rows -> {
+                    boolean hasNext = rows.size() > limit;
+                    List<EmergencyCallDTO> content = hasNext ? rows.subList(0, limit) : rows;
+                    String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1).id()) : null;
+                    return new CursorPage<>(content, nextCursor, hasNext);
+                });
+    }
+
+    @Override
+    @Transactional
+    public Mono<List<BatchItemResult>> createEmergencyCalls(List<EmergencyCallCreateCommand> commands) {
+        return checkBatchSize(commands).thenMany(Flux.range(0, commands.size()).concatMap(index -> {
+            EmergencyCallCreateCommand command = commands.get(index);
+            List<String> errors = validate(command);
+            if (!errors.isEmpty()) {
+                return Mono.just(BatchItemResult.invalid(index, null, errors));
+            }
+            return repository.insert(command.toEntity())
+                    .map(saved -> BatchItemResult.success(index, saved.getId(), Outcome.CREATED));
+        })).collectList();
+    }
+
+    @Override
+    @Transactional
+    public Mono<List<BatchItemResult>> updateEmergencyCalls(List<EmergencyCallBatchUpdateCommand> commands) {
+        List<Long> ids = commands.stream()
+                .filter(Objects::nonNull)
+                .map(EmergencyCallBatchUpdateCommand::id)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return checkBatchSize(commands)
+                .then(repository.findAllEntitiesById(ids).collectMap(EmergencyCall::getId, Function.identity()))
+                .flatMap(existing -> Flux.range(0, commands.size())
+                        .concatMap(index -> updateItem(index, commands.get(index), existing))
+                        .collectList());
+    }
+
+    @Override
+    @Transactional
+    public Mono<List<BatchItemResult>> deleteEmergencyCalls(List<EmergencyCallBatchDeleteCommand> commands) {
+        List<Long> ids = commands.stream()
+                .filter(Objects::nonNull)
+                .map(EmergencyCallBatchDeleteCommand::id)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return checkBatchSize(commands)
+                .then(repository.findAllEntitiesById(ids).collectMap(EmergencyCall::getId, Function.identity()))
+                .flatMap(existing -> {
+                    Set<Long> deleted = new HashSet<>();
+                    return Flux.range(0, commands.size())
+                            .concatMap(index -> deleteItem(index, commands.get(index), existing, deleted))
+                            .collectList();
+                });
+    }
+
+    private Mono<BatchItemResult> updateItem(int index, EmergencyCallBatchUpdateCommand command, Map<Long, EmergencyCall> existing) {
+        List<String> errors = validate(command);
+        if (!errors.isEmpty()) {
+            return Mono.just(BatchItemResult.invalid(index, command != null ? command.id() : null, errors));
+        }
+        EmergencyCall call = existing.get(command.id());
+        if (call == null) {
+            return Mono.just(BatchItemResult.notFound(index, command.id()));
+        }
+        if (command.version() != null && !command.version().equals(call.getVersion())) {
+            return Mono.just(BatchItemResult.conflict(index, call.getId(), call.getVersion(), command.version()));
+        }
+        // the entity is shared by repeated ids in one batch and carries the advanced version forward
+        return repository.update(command.toUpdateCommand().applyUpdate(call))
+                .flatMap(updated -> updated
+                        ? Mono.just(BatchItemResult.success(index, call.getId(), Outcome.UPDATED))
+                        : concurrentModification());
+    }
+
+    private Mono<BatchItemResult> deleteItem(int index, EmergencyCallBatchDeleteCommand command, Map<Long, EmergencyCall> existing,
+                                             Set<Long> deleted) {
+        List<String> errors = validate(command);
+        if (!errors.isEmpty()) {
+            return Mono.just(BatchItemResult.invalid(index, command != null ? command.id() : null, errors));
+        }
+        EmergencyCall call = existing.get(command.id());
+        if (call == null) {
+            return Mono.just(BatchItemResult.notFound(index, command.id()));
+        }
+        if (command.version() != null && !command.version().equals(call.getVersion())) {
+            return Mono.just(BatchItemResult.conflict(index, call.getId(), call.getVersion(), command.version()));
+        }
+        BatchItemResult result = BatchItemResult.success(index, call.getId(), Outcome.DELETED);
+        if (!deleted.add(call.getId())) {
+            return Mono.just(result);
+        }
+        return repository.delete(call.getId(), call.getVersion())
+                .flatMap(removed -> removed ? Mono.just(result) : concurrentModification());
+    }
+
+    private static Mono<Void> checkBatchSize(List<?> items) {
+        if (items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            return Mono.error(new InvalidRequestException(String.format("Batch must contain between 1 and %d items", MAX_BATCH_SIZE)));
+        }
+        return Mono.empty();
+    }
+
+    private List<String> validate(Object command) {
+        if (command == null) {
+            return List.of("Item is required");
+        }
+        return validator.validate(command).stream()
+                .map(ConstraintViolation::getMessage)
+                .toList();
+    }
+
+    private static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static void checkVersion(EmergencyCall call, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(call.getVersion())) {
+            throw new PreconditionFailedException(String.format("Emergency Call %d is at version %d, expected %s",
+                    call.getId(), call.getVersion(), expectedVersions.stream().map(String::valueOf)
+                            .collect(Collectors.joining(" or "))));
+        }
+    }
+
+    private static <T> Mono<T> concurrentModification() {
+        return Mono.error(new OptimisticLockingFailureException("Emergency Call was modified concurrently"));
+    }
+
+    private Mono<EmergencyCall> getEmergencyCallById(Long id) {
+        return repository.findEntityById(id).switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    private static ResourceNotFoundException notFound(Long id) {
+        return new ResourceNotFoundException(String.format("Emergency Call not found with id: %d", id));
+    }
+}
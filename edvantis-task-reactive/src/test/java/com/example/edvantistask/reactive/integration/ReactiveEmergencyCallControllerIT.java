@@ -0,0 +1,273 @@
+package com.example.edvantistask.reactive.integration;
+
+import com.example.edvantistask.command.EmergencyCallBatchDeleteCommand;
+import com.example.edvantistask.command.EmergencyCallBatchUpdateCommand;
+import com.example.edvantistask.command.EmergencyCallCreateCommand;
+import com.example.edvantistask.command.EmergencyCallUpdateCommand;
+import com.example.edvantistask.dto.BatchItemResult;
+import com.example.edvantistask.dto.CursorPage;
+import com.example.edvantistask.dto.EmergencyCallDTO;
+import com.example.edvantistask.model.IncidentType;
+import com.example.edvantistask.model.Status;
+import com.example.edvantistask.security.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ReactiveEmergencyCallControllerIT {
+
+    private static final ParameterizedTypeReference<List<BatchItemResult>> BATCH_RESULTS = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<CursorPage<EmergencyCallDTO>> CURSOR_PAGE = new ParameterizedTypeReference<>() {};
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        Long operators = databaseClient.sql("SELECT COUNT(*) FROM user_accounts WHERE username = 'operator'")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+        if (operators == 0) {
+            databaseClient.sql("INSERT INTO user_accounts (username, password, role) VALUES ('operator', :password, 'ROLE_WRITE')")
+                    .bind("password", passwordEncoder.encode("operator123"))
+                    .then()
+                    .block();
+        }
+        client = webTestClient.mutate()
+                .defaultHeaders(headers -> headers.setBasicAuth("operator", "operator123"))
+                .build();
+    }
+
+    @Test
+    void shouldCreateAndGetEmergencyCallWithEntityTag() {
+        // given
+        EmergencyCallDTO created = create(new EmergencyCallCreateCommand("John Doe", "123 Main St", IncidentType.CRIME, Status.OPEN));
+
+        // when & then
+        client.get().uri("/api/emergency-calls/{id}", created.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .expectBody(EmergencyCallDTO.class).isEqualTo(created);
+        client.get().uri("/api/emergency-calls/{id}", created.id())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .exchange()
+                .expectStatus().isNotModified();
+        client.get().uri("/api/emergency-calls/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("Resource not found");
+    }
+
+    @Test
+    void shouldRejectStaleVersionOnUpdate() {
+        // given
+        EmergencyCallDTO created = create(new EmergencyCallCreateCommand("Jane Roe", "5 Elm St", IncidentType.ACCIDENT, Status.OPEN));
+        var update = new EmergencyCallUpdateCommand("Jane Roe", "5 Elm St", IncidentType.ACCIDENT, Status.CLOSED);
+
+        // when
+        EmergencyCallDTO updated = client.put().uri("/api/emergency-calls/{id}", created.id())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody(EmergencyCallDTO.class).returnResult().getResponseBody();
+
+        // then
+        assertNotNull(updated);
+        assertEquals(Status.CLOSED, updated.status());
+        client.put().uri("/api/emergency-calls/{id}", created.id())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        client.delete().uri("/api/emergency-calls/{id}", created.id())
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    @Test
+    void shouldStreamListResultsOnDemand() {
+        // given
+        createBatch(IncidentType.CRIME, 30);
+
+        // when
+        Flux<EmergencyCallDTO> stream = client.get().uri("/api/emergency-calls?incidentType=CRIME")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(EmergencyCallDTO.class)
+                .getResponseBody();
+
+        // then
+        StepVerifier.create(stream, 0)
+                .expectSubscription()
+                .thenRequest(5)
+                .expectNextCount(5)
+                .thenRequest(25)
+                .expectNextCount(25)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldReturnPageByDefaultAndCursorPageWithLimit() {
+        // given
+        createBatch(IncidentType.ACCIDENT, 3);
+
+        // when & then
+        client.get().uri("/api/emergency-calls?incidentType=ACCIDENT&size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.totalElements").value(total -> assertTrue(((Number) total).longValue() >= 3));
+
+        CursorPage<EmergencyCallDTO> first = client.get().uri("/api/emergency-calls?incidentType=ACCIDENT&limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CURSOR_PAGE).returnResult().getResponseBody();
+        assertNotNull(first);
+        assertTrue(first.hasNext());
+        CursorPage<EmergencyCallDTO> second = client.get()
+                .uri("/api/emergency-calls?incidentType=ACCIDENT&limit=2&after={cursor}", first.nextCursor())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CURSOR_PAGE).returnResult().getResponseBody();
+        assertNotNull(second);
+        assertTrue(second.content().get(0).id() > first.content().get(1).id());
+    }
+
+    @Test
+    void shouldApplyBatchUpdatesAndDeletes() {
+        // given
+        List<Long> ids = createBatch(IncidentType.CRIME, 2);
+        var updates = List.of(
+                new EmergencyCallBatchUpdateCommand(ids.get(0), "Updated", "1 Side St", IncidentType.CRIME, Status.CLOSED, 0L),
+                new EmergencyCallBatchUpdateCommand(Long.MAX_VALUE, "Missing", "Nowhere", IncidentType.CRIME, Status.CLOSED, null),
+                new EmergencyCallBatchUpdateCommand(ids.get(1), "Stale", "2 Side St", IncidentType.CRIME, Status.CLOSED, 4L));
+
+        // when
+        List<BatchItemResult> updated = client.put().uri("/api/emergency-calls/batch")
+                .bodyValue(updates)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BATCH_RESULTS).returnResult().getResponseBody();
+        List<BatchItemResult> deleted = client.method(HttpMethod.DELETE).uri("/api/emergency-calls/batch")
+                .bodyValue(List.of(new EmergencyCallBatchDeleteCommand(ids.get(1), 0L), EmergencyCallBatchDeleteCommand.of(Long.MAX_VALUE),
+                        new EmergencyCallBatchDeleteCommand(ids.get(0), 0L)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BATCH_RESULTS).returnResult().getResponseBody();
+
+        // then
+        assertNotNull(updated);
+        assertEquals(BatchItemResult.Outcome.UPDATED, updated.get(0).outcome());
+        assertEquals(BatchItemResult.Outcome.NOT_FOUND, updated.get(1).outcome());
+        assertEquals(BatchItemResult.Outcome.CONFLICT, updated.get(2).outcome());
+        assertNotNull(deleted);
+        assertEquals(BatchItemResult.Outcome.DELETED, deleted.get(0).outcome());
+        assertEquals(BatchItemResult.Outcome.NOT_FOUND, deleted.get(1).outcome());
+        assertEquals(BatchItemResult.Outcome.CONFLICT, deleted.get(2).outcome());
+        client.get().uri("/api/emergency-calls/{id}", ids.get(0))
+                .exchange()
+                .expectBody().jsonPath("$.status").isEqualTo("CLOSED").jsonPath("$.version").isEqualTo(1);
+        client.get().uri("/api/emergency-calls/{id}", ids.get(1))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldRejectInvalidCommandWithValidationErrors() {
+        // when & then
+        client.post().uri("/api/emergency-calls")
+                .bodyValue(new EmergencyCallCreateCommand("", "123 Main St", IncidentType.CRIME, Status.OPEN))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Validation error")
+                .jsonPath("$.errors[0]").isEqualTo("Caller name is required");
+    }
+
+    @Test
+    void shouldAuthenticateWithBearerTokenAndRejectAnonymousRequests() {
+        // given
+        String token = tokenService.issue(UsernamePasswordAuthenticationToken.authenticated(
+                "dispatcher", null, List.of(new SimpleGrantedAuthority("ROLE_READ")))).token();
+
+        // when & then
+        webTestClient.get().uri("/api/emergency-calls")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.get().uri("/api/emergency-calls")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.post().uri("/api/emergency-calls")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new EmergencyCallCreateCommand("John Doe", "123 Main St", IncidentType.CRIME, Status.OPEN))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    private EmergencyCallDTO create(EmergencyCallCreateCommand command) {
+        EmergencyCallDTO created = client.post().uri("/api/emergency-calls")
+                .bodyValue(command)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(EmergencyCallDTO.class).returnResult().getResponseBody();
+        assertNotNull(created);
+        return created;
+    }
+
+    private List<Long> createBatch(IncidentType incidentType, int count) {
+        List<EmergencyCallCreateCommand> commands = IntStream.range(0, count)
+                .mapToObj(i -> new EmergencyCallCreateCommand("Caller " + i, i + " Main St", incidentType, Status.OPEN))
+                .toList();
+        List<BatchItemResult> results = client.post().uri("/api/emergency-calls/batch")
+                .bodyValue(commands)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BATCH_RESULTS).returnResult().getResponseBody();
+        assertNotNull(results);
+        results.forEach(result -> assertEquals(BatchItemResult.Outcome.CREATED, result.outcome()));
+        return results.stream().map(BatchItemResult::id).toList();
+    }
+}